@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.formatter;
+
+import java.util.List;
+
+import com.github.difflib.DiffUtils;
+import com.github.difflib.patch.AbstractDelta;
+import com.github.difflib.patch.Chunk;
+import com.google.common.base.Splitter;
+import com.google.common.collect.DiscreteDomain;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
+
+/**
+ * Helps keeping the changed lines (e.g. the hunks of a pull-request) consistent with a content mutated by a linter.
+ * 
+ * @author Benoit Lacelle
+ *
+ */
+public class ChangedLinesHelpers {
+	protected ChangedLinesHelpers() {
+		// hidden
+	}
+
+	/**
+	 * 
+	 * @param before
+	 *            the content to which given changed lines refer
+	 * @param after
+	 *            some mutated content (e.g. by a linter restricted to the changed lines)
+	 * @param changedLines
+	 *            the 1-based changed lines of `before`
+	 * @return the 1-based lines of `after`: the unchanged lines are shifted, and the lines mutated from a changed line
+	 *         are changed lines.
+	 */
+	public static RangeSet<Integer> remap(String before, String after, RangeSet<Integer> changedLines) {
+		if (before.equals(after)) {
+			return changedLines;
+		}
+
+		List<String> beforeLines = Splitter.onPattern("\r?\n").splitToList(before);
+		List<String> afterLines = Splitter.onPattern("\r?\n").splitToList(after);
+
+		RangeSet<Integer> remapped = TreeRangeSet.create();
+
+		// The 0-based index of the first line of `before` not processed yet
+		var nextBeforeLine = 0;
+		for (AbstractDelta<String> delta : DiffUtils.diff(beforeLines, afterLines).getDeltas()) {
+			Chunk<String> source = delta.getSource();
+			Chunk<String> target = delta.getTarget();
+
+			// The lines before this delta are unchanged: they are shifted
+			addShifted(changedLines,
+					remapped,
+					nextBeforeLine,
+					source.getPosition(),
+					target.getPosition() - source.getPosition());
+
+			final boolean isChangedLine;
+			if (source.size() == 0) {
+				// An insertion is a changed line if it is right after or before a changed line
+				isChangedLine = changedLines.contains(source.getPosition())
+						|| changedLines.contains(source.getPosition() + 1);
+			} else {
+				isChangedLine = changedLines
+						.intersects(Range.closedOpen(source.getPosition() + 1, source.last() + 2));
+			}
+			if (isChangedLine && target.size() > 0) {
+				remapped.add(Range.closedOpen(target.getPosition() + 1, target.last() + 2));
+			}
+
+			nextBeforeLine = source.getPosition() + source.size();
+		}
+
+		addShifted(changedLines,
+				remapped,
+				nextBeforeLine,
+				beforeLines.size(),
+				afterLines.size() - beforeLines.size());
+
+		return ImmutableRangeSet.copyOf(remapped);
+	}
+
+	// `from` and `to` are 0-based, while the changed lines are 1-based
+	private static void addShifted(RangeSet<Integer> changedLines,
+			RangeSet<Integer> remapped,
+			int from,
+			int to,
+			int shift) {
+		if (from >= to) {
+			return;
+		}
+
+		changedLines.subRangeSet(Range.closedOpen(from + 1, to + 1)).asRanges().forEach(range -> {
+			Range<Integer> canonical = range.canonical(DiscreteDomain.integers());
+			remapped.add(Range.closedOpen(canonical.lowerEndpoint() + shift, canonical.upperEndpoint() + shift));
+		});
+	}
+}
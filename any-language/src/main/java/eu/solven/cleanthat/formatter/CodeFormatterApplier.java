@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 import eu.solven.cleanthat.config.IDocumentationConstants;
 import eu.solven.cleanthat.engine.EngineAndLinters;
 import eu.solven.cleanthat.engine.ICodeFormatterApplier;
+import eu.solven.cleanthat.jfr.LintFixEvent;
 import eu.solven.cleanthat.language.IEngineProperties;
 
 /**
@@ -46,6 +47,9 @@ public class CodeFormatterApplier implements ICodeFormatterApplier {
 
 		var engineProperties = engineAndSteps.getEngineProperties();
 		engineAndSteps.getLinters().forEach(linter -> {
+			// A file exceeding its budget is given up between 2 linters, through a TimeBudgetExceededException
+			TimeBudget.checkpoint();
+
 			try {
 				var output = applyProcessor(engineProperties, linter, pathAndContent);
 				if (output == null) {
@@ -58,6 +62,9 @@ public class CodeFormatterApplier implements ICodeFormatterApplier {
 					LOGGER.debug("Mutated a file given: {}", linter);
 					outputRef.set(output);
 				}
+			} catch (TimeBudgetExceededException e) {
+				// The processing of the whole file is given up
+				throw e;
 			} catch (IOException | RuntimeException e) {
 				NB_EXCEPTIONS.incrementAndGet();
 				// Log and move to next processor
@@ -77,10 +84,26 @@ public class CodeFormatterApplier implements ICodeFormatterApplier {
 			PathAndContent pathAndContent) throws IOException {
 		Objects.requireNonNull(pathAndContent, "pathAndContent should not be null");
 
-		if (lintFixer instanceof ILintFixerWithPath) {
-			return ((ILintFixerWithPath) lintFixer).doFormat(pathAndContent);
-		} else {
-			return lintFixer.doFormat(pathAndContent.getContent());
+		var event = new LintFixEvent();
+		event.begin();
+		try {
+			if (lintFixer instanceof ILintFixerWithPath) {
+				return ((ILintFixerWithPath) lintFixer).doFormat(pathAndContent);
+			} else {
+				return lintFixer.doFormat(pathAndContent.getContent());
+			}
+		} finally {
+			String step;
+			if (lintFixer instanceof IHasId) {
+				step = ((IHasId) lintFixer).getId();
+			} else {
+				step = lintFixer.getClass().getName();
+			}
+			event.endAndCommit(pathAndContent.getPath(),
+					engineProperties.getEngine(),
+					step,
+					null,
+					pathAndContent.getContent());
 		}
 	}
 }
@@ -16,9 +16,12 @@
 package eu.solven.cleanthat.formatter;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.RangeSet;
 
 import eu.solven.cleanthat.code_provider.CleanthatPathHelpers;
 
@@ -26,18 +29,27 @@ import eu.solven.cleanthat.code_provider.CleanthatPathHelpers;
  * Couple a {@link Path} (which may not be based on FileSystems.default()) and its content. The content is fetched
  * lazily. Once it is fetched, it is cached.
  * 
+ * It may also hold the changed lines (e.g. the hunks of a pull-request), to which the cleaning should be restricted.
+ * 
  * @author Benoit Lacelle
  *
  */
 public class PathAndContent {
 	final Path path;
 	final Supplier<String> contentSupplier;
+	// null if the whole content has to be cleaned
+	final RangeSet<Integer> changedLines;
 
 	public PathAndContent(Path path, Supplier<String> contentSupplier) {
+		this(path, contentSupplier, null);
+	}
+
+	private PathAndContent(Path path, Supplier<String> contentSupplier, RangeSet<Integer> changedLines) {
 		CleanthatPathHelpers.checkContentPath(path);
 
 		this.path = path;
 		this.contentSupplier = Suppliers.memoize(contentSupplier::get);
+		this.changedLines = changedLines;
 	}
 
 	public PathAndContent(Path path, String content) {
@@ -52,7 +64,34 @@ public class PathAndContent {
 		return contentSupplier.get();
 	}
 
+	/**
+	 * 
+	 * @return the 1-based lines to which the cleaning should be restricted, if any. Empty means the whole content.
+	 */
+	public Optional<RangeSet<Integer>> getChangedLines() {
+		return Optional.ofNullable(changedLines);
+	}
+
+	/**
+	 * The changed lines are remapped through the changes from current content to the new content.
+	 */
 	public PathAndContent withContent(String newContent) {
-		return new PathAndContent(getPath(), () -> newContent);
+		RangeSet<Integer> newChangedLines;
+		if (changedLines == null) {
+			newChangedLines = null;
+		} else {
+			newChangedLines = ChangedLinesHelpers.remap(getContent(), newContent, changedLines);
+		}
+		return new PathAndContent(getPath(), () -> newContent, newChangedLines);
+	}
+
+	/**
+	 * 
+	 * @param changedLines
+	 *            the 1-based lines to which the cleaning should be restricted
+	 * @return a {@link PathAndContent} restricted to given lines
+	 */
+	public PathAndContent withChangedLines(RangeSet<Integer> changedLines) {
+		return new PathAndContent(getPath(), contentSupplier, ImmutableRangeSet.copyOf(changedLines));
 	}
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.formatter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A wall-clock budget, attached to the current thread. The budget is enforced cooperatively: long-running loops (e.g.
+ * an AST walk, or the loop over the linters of a file) call {@link #checkpoint()} regularly.
+ *
+ * An interrupting budget (e.g. per file) throws a {@link TimeBudgetExceededException} on the first checkpoint after
+ * its deadline, while a stopping budget (e.g. per mutator) only requests the current loop to stop.
+ *
+ * Budgets are typically opened in a try-with-resources, and may be nested.
+ *
+ * @author Benoit Lacelle
+ */
+public final class TimeBudget implements AutoCloseable {
+	private static final ThreadLocal<Deque<TimeBudget>> OPENED = ThreadLocal.withInitial(ArrayDeque::new);
+
+	final String name;
+	final long budgetMs;
+	final long deadlineNanos;
+	final boolean interrupting;
+
+	private TimeBudget(String name, long budgetMs, boolean interrupting) {
+		this.name = name;
+		this.budgetMs = budgetMs;
+		this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+		this.interrupting = interrupting;
+	}
+
+	/**
+	 *
+	 * @param name
+	 *            a human-readable name (e.g. the path of the processed file), for reporting
+	 * @param budgetMs
+	 *            the budget in milliseconds. 0 (or a negative value) means no budget.
+	 * @return a {@link TimeBudget} throwing a {@link TimeBudgetExceededException} on the first checkpoint after its
+	 *         deadline.
+	 */
+	public static TimeBudget openInterrupting(String name, long budgetMs) {
+		return open(name, budgetMs, true);
+	}
+
+	/**
+	 *
+	 * @param name
+	 *            a human-readable name (e.g. the id of a mutator), for reporting
+	 * @param budgetMs
+	 *            the budget in milliseconds. 0 (or a negative value) means no budget.
+	 * @return a {@link TimeBudget} making {@link #checkpoint()} returning true after its deadline.
+	 */
+	public static TimeBudget openStopping(String name, long budgetMs) {
+		return open(name, budgetMs, false);
+	}
+
+	private static TimeBudget open(String name, long budgetMs, boolean interrupting) {
+		var budget = new TimeBudget(name, budgetMs, interrupting);
+		OPENED.get().push(budget);
+		return budget;
+	}
+
+	/**
+	 * Checks the budgets opened by current thread.
+	 *
+	 * @return true if a stopping budget is exceeded: the caller should stop its loop.
+	 * @throws TimeBudgetExceededException
+	 *             if an interrupting budget is exceeded
+	 */
+	public static boolean checkpoint() {
+		var opened = OPENED.get();
+		if (opened.isEmpty()) {
+			return false;
+		}
+
+		var now = System.nanoTime();
+		var stop = false;
+		// Iterate from the outermost budget, so that an exceeded file budget wins over an exceeded mutator budget
+		var it = opened.descendingIterator();
+		while (it.hasNext()) {
+			var budget = it.next();
+			if (budget.isExceeded(now)) {
+				if (budget.interrupting) {
+					throw new TimeBudgetExceededException(budget.name, budget.budgetMs);
+				}
+				stop = true;
+			}
+		}
+		return stop;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getBudgetMs() {
+		return budgetMs;
+	}
+
+	public boolean isExceeded() {
+		return isExceeded(System.nanoTime());
+	}
+
+	private boolean isExceeded(long now) {
+		return budgetMs > 0 && now - deadlineNanos > 0;
+	}
+
+	@Override
+	public void close() {
+		var opened = OPENED.get();
+		opened.remove(this);
+		if (opened.isEmpty()) {
+			OPENED.remove();
+		}
+	}
+}
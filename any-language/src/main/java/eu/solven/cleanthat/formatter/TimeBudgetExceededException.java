@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.formatter;
+
+/**
+ * Thrown by {@link TimeBudget#checkpoint()} when an interrupting {@link TimeBudget} is exceeded. It must not be
+ * swallowed by the per-linter or per-mutator error handling: the whole processing of the file is given up.
+ *
+ * @author Benoit Lacelle
+ */
+public class TimeBudgetExceededException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	final String budgetName;
+	final long budgetMs;
+
+	public TimeBudgetExceededException(String budgetName, long budgetMs) {
+		super("The budget of " + budgetMs + "ms is exceeded for " + budgetName);
+
+		this.budgetName = budgetName;
+		this.budgetMs = budgetMs;
+	}
+
+	public String getBudgetName() {
+		return budgetName;
+	}
+
+	public long getBudgetMs() {
+		return budgetMs;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.jfr;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Common fields of the Java Flight Recorder events emitted by Cleanthat. The fields are computed only if the event is
+ * actually recorded, so that these events are nearly free when JFR is disabled.
+ *
+ * @author Benoit Lacelle
+ */
+@Category("Cleanthat")
+@StackTrace(false)
+public abstract class ACleanthatEvent extends Event {
+	@Label("Path")
+	String path;
+
+	@Label("Engine")
+	String engine;
+
+	@Label("Step")
+	String step;
+
+	@Label("Mutator")
+	String mutator;
+
+	@Label("Size")
+	@DataAmount
+	long size;
+
+	/**
+	 * Ends the event, and commits it if it is recorded.
+	 * 
+	 * @param path
+	 *            may be null (e.g. if the event is related to multiple files)
+	 * @param engine
+	 *            may be null
+	 * @param step
+	 *            may be null
+	 * @param mutator
+	 *            may be null
+	 * @param content
+	 *            the content from which the size is computed. May be null.
+	 */
+	public void endAndCommit(Path path, String engine, String step, String mutator, String content) {
+		List<String> contents;
+		if (content == null) {
+			contents = List.of();
+		} else {
+			contents = List.of(content);
+		}
+		endAndCommit(path, engine, step, mutator, contents);
+	}
+
+	/**
+	 * Ends the event, and commits it if it is recorded.
+	 * 
+	 * @param path
+	 *            may be null (e.g. if the event is related to multiple files)
+	 * @param engine
+	 *            may be null
+	 * @param step
+	 *            may be null
+	 * @param mutator
+	 *            may be null
+	 * @param contents
+	 *            the contents from which the size is computed.
+	 */
+	public void endAndCommit(Path path, String engine, String step, String mutator, Collection<String> contents) {
+		end();
+
+		if (!shouldCommit()) {
+			return;
+		}
+
+		if (path != null) {
+			this.path = path.toString();
+		}
+		this.engine = engine;
+		this.step = step;
+		this.mutator = mutator;
+		this.size = contents.stream().mapToLong(content -> content.getBytes(StandardCharsets.UTF_8).length).sum();
+
+		commit();
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.core.io.ClassPathResource;
+
+import com.google.common.io.ByteStreams;
+
+import eu.solven.cleanthat.config.pojo.CleanthatEngineProperties;
+import eu.solven.cleanthat.config.pojo.SourceCodeProperties;
+import eu.solven.cleanthat.engine.java.IJdkVersionConstants;
+import eu.solven.cleanthat.engine.java.refactorer.JavaRefactorer;
+import eu.solven.cleanthat.engine.java.refactorer.JavaRefactorerProperties;
+import eu.solven.cleanthat.language.IEngineProperties;
+
+/**
+ * Helps loading the inputs of the benchmarks. They are copied from the `java` module tests, so that benchmarks operate
+ * over the same cases as unit-tests.
+ *
+ * @author Benoit Lacelle
+ *
+ */
+public final class BenchmarkInputs {
+	private BenchmarkInputs() {
+		// hidden
+	}
+
+	/**
+	 * Real-life files, from a few hundreds bytes to a few hundreds kilo-bytes.
+	 *
+	 * @author Benoit Lacelle
+	 *
+	 */
+	public enum InputSize {
+		SMALL("/source/UseTextBlocks/html_Pre.java"),
+		MEDIUM("/source/LocalVariableTypeInference/MavenPluginPlugin.java"),
+		HUGE("/source/RoaringBitmap/TestRoaringBitmap.java");
+
+		final String resource;
+
+		InputSize(String resource) {
+			this.resource = resource;
+		}
+
+		public String load() {
+			return loadResource(resource);
+		}
+	}
+
+	public static String loadResource(String resource) {
+		try {
+			return new String(ByteStreams.toByteArray(new ClassPathResource(resource).getInputStream()),
+					StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Issue loading " + resource, e);
+		}
+	}
+
+	/**
+	 *
+	 * @param mutatorId
+	 * @return the content of `Test<mutatorId>Cases.java`, holding the test-cases of given mutator
+	 */
+	public static String loadCases(String mutatorId) {
+		return loadResource("/cases/Test" + mutatorId + "Cases.java");
+	}
+
+	public static IEngineProperties makeEngineProperties() {
+		return CleanthatEngineProperties.builder()
+				.engine("java")
+				.engineVersion(IJdkVersionConstants.LAST)
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.build();
+	}
+
+	public static JavaRefactorer makeRefactorer(String... mutators) {
+		var properties = new JavaRefactorerProperties();
+		properties.setMutators(Arrays.asList(mutators));
+
+		return new JavaRefactorer(makeEngineProperties(), properties);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eu.solven.cleanthat.benchmarks.BenchmarkInputs.InputSize;
+import eu.solven.cleanthat.config.pojo.ICleanthatStepParametersProperties;
+import eu.solven.cleanthat.engine.java.refactorer.JavaRefactorer;
+
+/**
+ * Measures the end-to-end {@link JavaRefactorer#doFormat(String)} with the composite mutators, as typically configured
+ * by users.
+ *
+ * @author Benoit Lacelle
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CompositeMutatorsBenchmark {
+	@Param({ ICleanthatStepParametersProperties.SAFE_AND_CONSENSUAL,
+			ICleanthatStepParametersProperties.SAFE_BUT_NOT_CONSENSUAL,
+			ICleanthatStepParametersProperties.SAFE_BUT_CONTROVERSIAL })
+	String compositeId;
+
+	@Param({ "SMALL", "MEDIUM", "HUGE" })
+	InputSize size;
+
+	String sourceCode;
+	JavaRefactorer refactorer;
+
+	@Setup
+	public void setup() {
+		sourceCode = size.load();
+		refactorer = BenchmarkInputs.makeRefactorer(compositeId);
+	}
+
+	@Benchmark
+	public String doFormat() throws IOException {
+		return refactorer.doFormat(sourceCode);
+	}
+}
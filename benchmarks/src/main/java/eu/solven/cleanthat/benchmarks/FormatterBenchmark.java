@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+
+import com.diffplug.spotless.LineEnding;
+import com.diffplug.spotless.Provisioner;
+
+import eu.solven.cleanthat.benchmarks.BenchmarkInputs.InputSize;
+import eu.solven.cleanthat.code_provider.inmemory.FileSystemCodeProvider;
+import eu.solven.cleanthat.config.pojo.CleanthatRepositoryProperties;
+import eu.solven.cleanthat.engine.java.eclipse.EclipseJavaFormatter;
+import eu.solven.cleanthat.engine.java.eclipse.EclipseJavaFormatterConfiguration;
+import eu.solven.cleanthat.formatter.CleanthatSession;
+import eu.solven.cleanthat.formatter.PathAndContent;
+import eu.solven.cleanthat.language.spotless.SpotlessLintFixer;
+import eu.solven.cleanthat.spotless.AFormatterStepFactory;
+import eu.solven.cleanthat.spotless.FormatterFactory;
+import eu.solven.cleanthat.spotless.SpotlessSession;
+import eu.solven.cleanthat.spotless.pojo.SpotlessEngineProperties;
+import eu.solven.cleanthat.spotless.pojo.SpotlessFormatterProperties;
+import eu.solven.cleanthat.spotless.pojo.SpotlessStepProperties;
+
+/**
+ * Measures the formatters which are typically executed after the refactorer: {@link EclipseJavaFormatter} and
+ * {@link SpotlessLintFixer}.
+ *
+ * Benchmarks have to run offline: Spotless is restricted to the steps which do not require a {@link Provisioner}.
+ *
+ * @author Benoit Lacelle
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FormatterBenchmark {
+	// Matches the default includes of the Spotless java formatter
+	private static final Path CONTENT_PATH = Paths.get("src/main/java/eu/solven/cleanthat/SomeClass.java");
+
+	@Param({ "SMALL", "MEDIUM", "HUGE" })
+	InputSize size;
+
+	String sourceCode;
+
+	Path repositoryRoot;
+	EclipseJavaFormatter eclipseFormatter;
+	SpotlessLintFixer spotlessLintFixer;
+
+	@Setup
+	public void setup() throws IOException {
+		sourceCode = size.load();
+
+		eclipseFormatter = new EclipseJavaFormatter(EclipseJavaFormatterConfiguration
+				.loadResource(new ClassPathResource("/eclipse/pepper-eclipse-code-formatter.xml")));
+
+		repositoryRoot = Files.createTempDirectory("cleanthat-benchmarks");
+		var codeProvider = new FileSystemCodeProvider(repositoryRoot);
+		var formatterFactory = new FormatterFactory(CleanthatSession.builder()
+				.repositoryRoot(repositoryRoot)
+				.codeProvider(codeProvider)
+				.repositoryProperties(CleanthatRepositoryProperties.defaultRepository())
+				.build());
+
+		var engineProperties = SpotlessEngineProperties.builder().lineEnding(LineEnding.UNIX.name()).build();
+		var formatterProperties = SpotlessFormatterProperties.builder()
+				.format("java")
+				.step(SpotlessStepProperties.builder().id(AFormatterStepFactory.ID_TOGGLE_OFF_ON).build())
+				.step(SpotlessStepProperties.builder().id("importOrder").build())
+				.step(SpotlessStepProperties.builder().id("trimTrailingWhitespace").build())
+				.step(SpotlessStepProperties.builder().id("endWithNewline").build())
+				.step(SpotlessStepProperties.builder().id("indent").build())
+				.build();
+
+		spotlessLintFixer = new SpotlessLintFixer(new SpotlessSession(),
+				List.of(formatterFactory.makeFormatter(engineProperties, formatterProperties, offlineProvisioner())));
+	}
+
+	private static Provisioner offlineProvisioner() {
+		return (withTransitives, mavenCoordinates) -> {
+			throw new IllegalStateException("Benchmarks run offline while requesting: " + mavenCoordinates);
+		};
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		spotlessLintFixer.close();
+		Files.deleteIfExists(repositoryRoot);
+	}
+
+	@Benchmark
+	public String eclipse() throws IOException {
+		return eclipseFormatter.doFormat(sourceCode);
+	}
+
+	@Benchmark
+	public String spotless() throws IOException {
+		return spotlessLintFixer.doFormat(new PathAndContent(CONTENT_PATH, sourceCode));
+	}
+}
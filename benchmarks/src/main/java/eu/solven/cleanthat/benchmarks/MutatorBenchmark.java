@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eu.solven.cleanthat.engine.java.refactorer.JavaRefactorer;
+
+/**
+ * Measures each mutator individually, over its own `Test<Mutator>Cases.java`. These inputs hold both the pre and the
+ * post versions of each case, hence they exercise both the matching and the not-matching paths of the mutator.
+ *
+ * @author Benoit Lacelle
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MutatorBenchmark {
+	// Selected to cover cheap syntactic mutators, type-resolving mutators and import-related mutators. All mutators of
+	// the registry are benchmarked by `RunMutatorBenchmark`
+	@Param({ "ForEachIfBreakToStreamFindFirst",
+			"ImportQualifiedTokens",
+			"LambdaIsMethodReference",
+			"LiteralsFirstInComparisons",
+			"LocalVariableTypeInference",
+			"ModifierOrder",
+			"PrimitiveWrapperInstantiation",
+			"SimplifyBooleanExpression",
+			"StreamAnyMatch",
+			"UnnecessaryFullyQualifiedName",
+			"UnnecessaryImports",
+			"UseCollectionIsEmpty",
+			"UseDiamondOperator",
+			"UseIndexOfChar",
+			"UseTextBlocks" })
+	String mutatorId;
+
+	String sourceCode;
+	JavaRefactorer refactorer;
+
+	@Setup
+	public void setup() {
+		sourceCode = BenchmarkInputs.loadCases(mutatorId);
+		refactorer = BenchmarkInputs.makeRefactorer(mutatorId);
+	}
+
+	@Benchmark
+	public String doFormat() throws IOException {
+		return refactorer.doFormat(sourceCode);
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+
+import eu.solven.cleanthat.benchmarks.BenchmarkInputs.InputSize;
+import eu.solven.cleanthat.engine.java.refactorer.AAstRefactorer;
+import eu.solven.cleanthat.engine.java.refactorer.JavaRefactorer;
+
+/**
+ * Measures the cost of parsing, as it is paid once per file even if no mutator applies. The printable parse includes
+ * the setup of the {@link com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter}.
+ *
+ * @author Benoit Lacelle
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParseBenchmark {
+	@Param({ "SMALL", "MEDIUM", "HUGE" })
+	InputSize size;
+
+	String sourceCode;
+	JavaParser javaParser;
+	JavaRefactorer refactorer;
+
+	@Setup
+	public void setup() {
+		sourceCode = size.load();
+		javaParser = JavaRefactorer.makeDefaultJavaParser(JavaRefactorer.JAVAPARSER_JRE_ONLY);
+		refactorer = BenchmarkInputs.makeRefactorer();
+	}
+
+	@Benchmark
+	public ParseResult<CompilationUnit> parse() {
+		return javaParser.parse(sourceCode);
+	}
+
+	@Benchmark
+	public Optional<Node> parsePrintable() {
+		return AAstRefactorer.parse(refactorer, sourceCode);
+	}
+}
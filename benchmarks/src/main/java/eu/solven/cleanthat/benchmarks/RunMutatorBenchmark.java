@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+import org.codehaus.plexus.languages.java.version.JavaVersion;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import eu.solven.cleanthat.engine.java.IJdkVersionConstants;
+import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.scanner.MutatorsScanner;
+
+/**
+ * Runs {@link MutatorBenchmark} over each single mutator of the registry having its own `Test<Mutator>Cases.java`,
+ * while the default {@link org.openjdk.jmh.annotations.Param} values cover only a representative subset.
+ *
+ * @author Benoit Lacelle
+ *
+ */
+public class RunMutatorBenchmark {
+	private static final Logger LOGGER = LoggerFactory.getLogger(RunMutatorBenchmark.class);
+
+	protected RunMutatorBenchmark() {
+		// hidden
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		var mutatorIds = getMutatorIdsWithCases();
+		LOGGER.info("Benchmarking {} mutators: {}", mutatorIds.size(), mutatorIds);
+
+		var options = new OptionsBuilder().include(MutatorBenchmark.class.getSimpleName())
+				.param("mutatorId", mutatorIds.toArray(String[]::new))
+				.build();
+		new Runner(options).run();
+	}
+
+	/**
+	 *
+	 * @return the ids of the single mutators of the registry, restricted to those with a `Test<Mutator>Cases.java`
+	 */
+	public static List<String> getMutatorIdsWithCases() {
+		List<Class<? extends IMutator>> mutatorClasses = new ArrayList<>(MutatorsScanner.scanSingleMutators());
+		List<IMutator> mutators =
+				MutatorsScanner.instantiate(JavaVersion.parse(IJdkVersionConstants.LAST), mutatorClasses);
+
+		var mutatorIds = new TreeSet<String>();
+		mutators.stream().map(IMutator::getCleanthatId).filter(Objects::nonNull).forEach(mutatorId -> {
+			if (new ClassPathResource("/cases/Test" + mutatorId + "Cases.java").exists()) {
+				mutatorIds.add(mutatorId);
+			} else {
+				LOGGER.debug("Skip {} as it has no cases", mutatorId);
+			}
+		});
+
+		return new ArrayList<>(mutatorIds);
+	}
+}
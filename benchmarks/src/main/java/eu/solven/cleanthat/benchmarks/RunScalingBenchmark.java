@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.benchmarks;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.management.OperatingSystemMXBean;
+
+import eu.solven.cleanthat.code_provider.inmemory.FileSystemCodeProvider;
+import eu.solven.cleanthat.config.ConfigHelpers;
+import eu.solven.cleanthat.config.pojo.CleanthatRepositoryProperties;
+import eu.solven.cleanthat.config.pojo.SourceCodeProperties;
+import eu.solven.cleanthat.engine.StringFormatterFactory;
+import eu.solven.cleanthat.engine.java.JavaFormattersFactory;
+import eu.solven.cleanthat.engine.java.refactorer.JavaRefactorerStep;
+import eu.solven.cleanthat.formatter.CodeFormatResult;
+import eu.solven.cleanthat.formatter.CodeFormatterApplier;
+import eu.solven.cleanthat.formatter.CodeProviderFormatter;
+import eu.solven.cleanthat.jgit.JGitCodeProvider;
+import eu.solven.cleanthat.synthetic.SyntheticRepositoryGenerator;
+import eu.solven.cleanthat.synthetic.SyntheticRepositoryProperties;
+
+/**
+ * Runs the full {@link CodeProviderFormatter} pipeline over synthetic repositories, through
+ * {@link FileSystemCodeProvider} and {@link JGitCodeProvider}. It reports files/second, the peak heap and the thread
+ * utilization, which helps validating the thread-pool sizing and the memory behavior over large repositories.
+ *
+ * The repository shape is configured through system properties, e.g.
+ * `-Dcleanthat.scaling.nb_files=200000 -Dcleanthat.scaling.dirty_ratio=0.01`. Only the `javaparser` engine is enabled,
+ * so that the benchmark runs offline.
+ *
+ * @author Benoit Lacelle
+ *
+ */
+public class RunScalingBenchmark {
+	private static final Logger LOGGER = LoggerFactory.getLogger(RunScalingBenchmark.class);
+
+	public static final String KEY_NB_FILES = "cleanthat.scaling.nb_files";
+	public static final String KEY_MEDIAN_FILE_SIZE = "cleanthat.scaling.median_file_size";
+	public static final String KEY_GITIGNORE_DEPTH = "cleanthat.scaling.gitignore_depth";
+	public static final String KEY_DIRTY_RATIO = "cleanthat.scaling.dirty_ratio";
+	public static final String KEY_JAVA_WEIGHT = "cleanthat.scaling.java_weight";
+
+	protected RunScalingBenchmark() {
+		// hidden
+	}
+
+	public static void main(String[] args) throws IOException {
+		var defaultProperties = SyntheticRepositoryProperties.builder().build();
+		var javaWeight = Integer.getInteger(KEY_JAVA_WEIGHT, defaultProperties.getExtensionToWeight().get("java"));
+		var properties = SyntheticRepositoryProperties.builder()
+				.nbFiles(Integer.getInteger(KEY_NB_FILES, defaultProperties.getNbFiles()))
+				.medianFileSize(Integer.getInteger(KEY_MEDIAN_FILE_SIZE, defaultProperties.getMedianFileSize()))
+				.gitignoreDepth(Integer.getInteger(KEY_GITIGNORE_DEPTH, defaultProperties.getGitignoreDepth()))
+				.dirtyRatio(Double.parseDouble(
+						System.getProperty(KEY_DIRTY_RATIO, Double.toString(defaultProperties.getDirtyRatio()))))
+				.extensionToWeight(Map.of("java", javaWeight, "json", 10, "yaml", 10, "md", 10))
+				.build();
+		LOGGER.info("Benchmarking over {}", properties);
+
+		var codeProviderFormatter = makeCodeProviderFormatter();
+		var repositoryProperties = makeRepositoryProperties();
+		var dryRun = false;
+
+		var fsRoot = Files.createTempDirectory("cleanthat-scaling-fs");
+		new SyntheticRepositoryGenerator(properties).generate(fsRoot);
+		measure(FileSystemCodeProvider.class.getSimpleName(),
+				properties.getNbFiles(),
+				() -> codeProviderFormatter
+						.formatCode(repositoryProperties, new FileSystemCodeProvider(fsRoot), dryRun));
+
+		var gitRoot = Files.createTempDirectory("cleanthat-scaling-jgit");
+		try (var jgit = new SyntheticRepositoryGenerator(properties).generateGitRepository(gitRoot)) {
+			// We do not commit: the point is to measure the cleaning
+			var commitPush = false;
+			var codeProvider = JGitCodeProvider
+					.wrap(gitRoot, jgit, JGitCodeProvider.getHeadName(jgit.getRepository()), commitPush);
+
+			measure(JGitCodeProvider.class.getSimpleName(),
+					properties.getNbFiles(),
+					() -> codeProviderFormatter.formatCode(repositoryProperties, codeProvider, dryRun));
+		}
+
+		LOGGER.info("The synthetic repositories are left in {} and {}", fsRoot, gitRoot);
+	}
+
+	private static CodeProviderFormatter makeCodeProviderFormatter() {
+		var configHelpers = new ConfigHelpers(
+				Arrays.asList(ConfigHelpers.makeJsonObjectMapper(), ConfigHelpers.makeYamlObjectMapper()));
+		var javaFactory = new JavaFormattersFactory(configHelpers);
+
+		return new CodeProviderFormatter(configHelpers,
+				new StringFormatterFactory(Map.of(javaFactory.getEngine(), javaFactory)),
+				new CodeFormatterApplier());
+	}
+
+	private static CleanthatRepositoryProperties makeRepositoryProperties() {
+		var configHelpers = new ConfigHelpers(Arrays.asList(ConfigHelpers.makeJsonObjectMapper()));
+
+		return CleanthatRepositoryProperties.builder()
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.engine(new JavaFormattersFactory(configHelpers)
+						.makeDefaultProperties(Set.of(JavaRefactorerStep.ID_REFACTORER)))
+				.build();
+	}
+
+	private static void measure(String name, int nbFiles, Supplier<CodeFormatResult> run) {
+		List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans()
+				.stream()
+				.filter(pool -> pool.getType() == MemoryType.HEAP)
+				.collect(Collectors.toList());
+		var threadMXBean = ManagementFactory.getThreadMXBean();
+		var osMXBean = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+		heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+		threadMXBean.resetPeakThreadCount();
+		var startCpuNanos = osMXBean.getProcessCpuTime();
+		var startNanos = System.nanoTime();
+
+		var result = run.get();
+
+		var wallNanos = System.nanoTime() - startNanos;
+		var cpuNanos = osMXBean.getProcessCpuTime() - startCpuNanos;
+
+		// The sum of the peak of each pool is an upper-bound of the actual peak heap
+		var peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+		var threadUtilization = (double) cpuNanos / wallNanos / Runtime.getRuntime().availableProcessors();
+
+		LOGGER.info(
+				"{}: {} files in {}ms ({} files/s) peakHeap={}MB threadUtilization={}% peakThreads={} details={}",
+				name,
+				nbFiles,
+				TimeUnit.NANOSECONDS.toMillis(wallNanos),
+				(long) (nbFiles * (double) TimeUnit.SECONDS.toNanos(1) / wallNanos),
+				peakHeap / 1024 / 1024,
+				(long) (threadUtilization * 100),
+				threadMXBean.getPeakThreadCount(),
+				result.getDetails());
+	}
+}
@@ -24,8 +24,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.TimeUnit;
@@ -35,6 +38,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.RangeSet;
 import com.google.common.util.concurrent.AtomicLongMap;
 import com.google.common.util.concurrent.MoreExecutors;
 
@@ -54,6 +58,8 @@ import eu.solven.cleanthat.config.pojo.CleanthatRepositoryProperties;
 import eu.solven.cleanthat.engine.EngineAndLinters;
 import eu.solven.cleanthat.engine.ICodeFormatterApplier;
 import eu.solven.cleanthat.engine.IEngineFormatterFactory;
+import eu.solven.cleanthat.jfr.LoadEvent;
+import eu.solven.cleanthat.jfr.PersistEvent;
 import eu.solven.cleanthat.language.IEngineProperties;
 import eu.solven.pepper.thread.PepperExecutorsHelper;
 
@@ -64,6 +70,10 @@ import eu.solven.pepper.thread.PepperExecutorsHelper;
  */
 public class CodeProviderFormatter implements ICodeProviderFormatter {
 	private static final String KEY_NB_FILES_FORMATTED = "nb_files_formatted";
+	private static final String KEY_NB_FILES_ALREADY_FORMATTED = "nb_files_already_formatted";
+	private static final String KEY_NB_FILES_OVER_BUDGET = "nb_files_over_budget";
+	// Suffixed by the reason why the file is considered generated
+	private static final String KEY_PREFIX_NB_FILES_GENERATED = "nb_files_generated.";
 
 	private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(CodeProviderFormatter.class);
 
@@ -142,7 +152,10 @@ public class CodeProviderFormatter implements ICodeProviderFormatter {
 
 		AtomicLongMap<String> languageToNbAddedFiles = AtomicLongMap.create();
 		AtomicLongMap<String> languagesCounters = AtomicLongMap.create();
+		AtomicLongMap<String> lintFixersMetrics = AtomicLongMap.create();
 		Map<Path, String> pathToMutatedContent = new LinkedHashMap<>();
+		// The changed lines of each mutated file, remapped onto its mutated content
+		Map<Path, RangeSet<Integer>> pathToMutatedChangedLines = new ConcurrentHashMap<>();
 
 		var cleanthatSession = new CleanthatSession(codeWriter.getRepositoryRoot(), finalCodeWriter, repoProperties);
 
@@ -151,8 +164,12 @@ public class CodeProviderFormatter implements ICodeProviderFormatter {
 
 			// TODO Process all languages in a single pass
 			// Beware about concurrency as multiple processors/languages may impact the same file
-			var languageCounters =
-					processFiles(cleanthatSession, languageToNbAddedFiles, pathToMutatedContent, languageP);
+			var languageCounters = processFiles(cleanthatSession,
+					languageToNbAddedFiles,
+					lintFixersMetrics,
+					pathToMutatedContent,
+					pathToMutatedChangedLines,
+					languageP);
 
 			var details = languageCounters.asMap()
 					.entrySet()
@@ -191,12 +208,32 @@ public class CodeProviderFormatter implements ICodeProviderFormatter {
 				ICodeWritingMetadata metadata =
 						new CodeWritingMetadata(prComments, repoProperties.getMeta().getLabels());
 
-				isEmpty = !codeWriter.persistChanges(pathToMutatedContent, metadata);
+				var event = new PersistEvent();
+				event.begin();
+				try {
+					isEmpty = !codeWriter.persistChanges(pathToMutatedContent, metadata);
+				} finally {
+					// The engine lists the engines which mutated some file, and the size is the sum of the persisted
+					// contents
+					var engines = languageToNbAddedFiles.asMap()
+							.entrySet()
+							.stream()
+							.filter(e -> e.getValue() > 0)
+							.map(Map.Entry::getKey)
+							.sorted()
+							.collect(Collectors.joining(","));
+					event.endAndCommit(null, engines, null, null, pathToMutatedContent.values());
+				}
 			}
 		}
 
 		codeWriter.cleanTmpFiles();
 
+		if (!lintFixersMetrics.isEmpty()) {
+			// e.g. the wall-time of each mutator, to detect which one is the slowest
+			LOGGER.info("Metrics of the lintFixers: {}", new TreeMap<>(lintFixersMetrics.asMap()));
+		}
+
 		return new CodeFormatResult(isEmpty, new LinkedHashMap<>(languagesCounters.asMap()));
 	}
 
@@ -249,9 +286,12 @@ public class CodeProviderFormatter implements ICodeProviderFormatter {
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.CloseResource" })
 	protected AtomicLongMap<String> processFiles(CleanthatSession cleanthatSession,
 			AtomicLongMap<String> engineToNbMutatedFiles,
+			AtomicLongMap<String> lintFixersMetrics,
 			Map<Path, String> pathToMutatedContent,
+			Map<Path, RangeSet<Integer>> pathToMutatedChangedLines,
 			IEngineProperties engineP) {
-		List<AutoCloseable> closeUs = new ArrayList<>();
+		// Engines are registered concurrently, by each thread
+		List<EngineAndLinters> closeUs = new CopyOnWriteArrayList<>();
 		// We rely on a ThreadLocal as Engines may not be threadSafe
 		// Hence, each new thread will compile its own engine
 		ThreadLocal<EngineAndLinters> currentThreadEngine = ThreadLocal.withInitial(() -> {
@@ -263,9 +303,20 @@ public class CodeProviderFormatter implements ICodeProviderFormatter {
 		});
 
 		try {
-			var languageCounters = processFiles(cleanthatSession, pathToMutatedContent, engineP, currentThreadEngine);
+			var languageCounters = processFiles(cleanthatSession,
+					pathToMutatedContent,
+					pathToMutatedChangedLines,
+					engineP,
+					currentThreadEngine);
 			engineToNbMutatedFiles.addAndGet(engineP.getEngine(), languageCounters.get(KEY_NB_FILES_FORMATTED));
 
+			// The metrics of each thread engine are aggregated
+			closeUs.forEach(engineAndLinters -> engineAndLinters.getLinters()
+					.stream()
+					.filter(ILintFixerWithMetrics.class::isInstance)
+					.map(ILintFixerWithMetrics.class::cast)
+					.forEach(linter -> linter.getMetrics().forEach(lintFixersMetrics::addAndGet)));
+
 			return languageCounters;
 		} finally {
 			closeUs.forEach(t -> {
@@ -281,6 +332,7 @@ public class CodeProviderFormatter implements ICodeProviderFormatter {
 	@SuppressWarnings("PMD.CloseResource")
 	protected AtomicLongMap<String> processFiles(CleanthatSession cleanthatSession,
 			Map<Path, String> pathToMutatedContent,
+			Map<Path, RangeSet<Integer>> pathToMutatedChangedLines,
 			IEngineProperties engineP,
 			ThreadLocal<EngineAndLinters> currentThreadEngine) {
 		var sourceCodeProperties = engineP.getSourceCode();
@@ -290,20 +342,25 @@ public class CodeProviderFormatter implements ICodeProviderFormatter {
 		var fs = cleanthatSession.getRepositoryRoot().getFileSystem();
 		var includeMatchers = IncludeExcludeHelpers.prepareMatcher(fs, sourceCodeProperties.getIncludes());
 		var excludeMatchers = IncludeExcludeHelpers.prepareMatcher(fs, sourceCodeProperties.getExcludes());
+		var generatedCodeDetector =
+				new GeneratedCodeDetector(cleanthatSession.getRepositoryProperties().getMeta().getGeneratedCode());
 
 		// https://github.com/diffplug/spotless/issues/1555
 		// If too many threads, we would load too many Spotless engines
 		var executor = PepperExecutorsHelper.newShrinkableFixedThreadPool("Cleanthat-CodeFormatter-");
-		CompletionService<Boolean> cs = new ExecutorCompletionService<>(executor);
+		// Each task returns the counter to increment
+		CompletionService<String> cs = new ExecutorCompletionService<>(executor);
 
 		try {
 			cleanthatSession.getCodeProvider().listFilesForContent(file -> {
 				var optRunMe = onEachFile(cleanthatSession,
 						pathToMutatedContent,
+						pathToMutatedChangedLines,
 						currentThreadEngine,
 						languageCounters,
 						includeMatchers,
 						excludeMatchers,
+						generatedCodeDetector,
 						file);
 
 				optRunMe.ifPresent(cs::submit);
@@ -325,13 +382,7 @@ public class CodeProviderFormatter implements ICodeProviderFormatter {
 				if (polled == null) {
 					break;
 				}
-				boolean result = polled.get();
-
-				if (result) {
-					languageCounters.incrementAndGet(KEY_NB_FILES_FORMATTED);
-				} else {
-					languageCounters.incrementAndGet("nb_files_already_formatted");
-				}
+				languageCounters.incrementAndGet(polled.get());
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
 				throw new RuntimeException(e);
@@ -343,24 +394,47 @@ public class CodeProviderFormatter implements ICodeProviderFormatter {
 		return languageCounters;
 	}
 
-	private Optional<Callable<Boolean>> onEachFile(CleanthatSession cleanthatSession,
+	private Optional<Callable<String>> onEachFile(CleanthatSession cleanthatSession,
 			Map<Path, String> pathToMutatedContent,
+			Map<Path, RangeSet<Integer>> pathToMutatedChangedLines,
 			ThreadLocal<EngineAndLinters> currentThreadEngine,
 			AtomicLongMap<String> languageCounters,
 			List<PathMatcher> includeMatchers,
 			List<PathMatcher> excludeMatchers,
+			GeneratedCodeDetector generatedCodeDetector,
 			ICodeProviderFile file) {
 		var filePath = file.getPath();
 
+		final Optional<RangeSet<Integer>> changedLines;
+		if (cleanthatSession.getRepositoryProperties().getMeta().isCleanOnlyChangedLines()) {
+			changedLines = file.getChangedLines();
+		} else {
+			changedLines = Optional.empty();
+		}
+
 		var matchingInclude = IncludeExcludeHelpers.findMatching(includeMatchers, filePath);
 		var matchingExclude = IncludeExcludeHelpers.findMatching(excludeMatchers, filePath);
 		if (matchingInclude.isPresent()) {
 			if (matchingExclude.isEmpty()) {
-				Callable<Boolean> runMe = () -> {
+				Callable<String> runMe = () -> {
 					var engineSteps = currentThreadEngine.get();
 
-					try {
-						return doFormat(cleanthatSession, engineSteps, pathToMutatedContent, filePath);
+					var fileBudgetMs = cleanthatSession.getRepositoryProperties().getMeta().getFileBudgetMs();
+					try (var budget = TimeBudget.openInterrupting(filePath.toString(), fileBudgetMs)) {
+						return doFormat(cleanthatSession,
+								engineSteps,
+								pathToMutatedContent,
+								pathToMutatedChangedLines,
+								generatedCodeDetector,
+								filePath,
+								changedLines);
+					} catch (TimeBudgetExceededException e) {
+						// The file is left unchanged, instead of blocking the whole run
+						LOGGER.warn("Path={} is left unchanged as it exceeded its budget of {}ms with {}",
+								filePath,
+								fileBudgetMs,
+								engineSteps);
+						return KEY_NB_FILES_OVER_BUDGET;
 					} catch (IOException e) {
 						throw new UncheckedIOException("Issue with file: " + filePath, e);
 					} catch (RuntimeException e) {
@@ -382,33 +456,62 @@ public class CodeProviderFormatter implements ICodeProviderFormatter {
 		}
 	}
 
-	private boolean doFormat(CleanthatSession cleanthatSession,
+	/**
+	 * 
+	 * @return the counter to increment, given the outcome of the processing of given file.
+	 */
+	private String doFormat(CleanthatSession cleanthatSession,
 			EngineAndLinters engineAndLinters,
 			Map<Path, String> pathToMutatedContent,
-			Path filePath) throws IOException {
+			Map<Path, RangeSet<Integer>> pathToMutatedChangedLines,
+			GeneratedCodeDetector generatedCodeDetector,
+			Path filePath,
+			Optional<RangeSet<Integer>> changedLines) throws IOException {
 		// Rely on the latest code (possibly formatted by a previous processor)
-		var optCode = loadCodeOptMutated(cleanthatSession.getCodeProvider(), pathToMutatedContent, filePath);
+		var optCode = loadCodeOptMutated(cleanthatSession.getCodeProvider(),
+				pathToMutatedContent,
+				filePath,
+				engineAndLinters.getEngineProperties().getEngine());
 
 		if (optCode.isEmpty()) {
 			LOGGER.warn("Skip processing {} as its content is not available", filePath);
-			return false;
+			return KEY_NB_FILES_ALREADY_FORMATTED;
 		}
 		var code = optCode.get();
 
+		// Generated files are detected before invoking any engine, as parsing them may be expensive
+		var optGeneratedReason = generatedCodeDetector.detectGenerated(code);
+		if (optGeneratedReason.isPresent()) {
+			// INFO, as a file wrongly considered generated would silently not be cleaned anymore
+			LOGGER.info("Skip processing {} as it is generated ({})", filePath, optGeneratedReason.get());
+			return KEY_PREFIX_NB_FILES_GENERATED + optGeneratedReason.get();
+		}
+
 		LOGGER.debug("Processing path={}", filePath);
-		var output = doFormat(engineAndLinters, new PathAndContent(filePath, code));
+		var pathAndContent = new PathAndContent(filePath, code);
+		if (changedLines.isPresent()) {
+			// The changed lines refer to the original content, while a previous engine may have shifted them
+			var changedLinesOfCode = pathToMutatedChangedLines.getOrDefault(filePath, changedLines.get());
+			LOGGER.debug("Processing path={} restricted to lines={}", filePath, changedLinesOfCode);
+			pathAndContent = pathAndContent.withChangedLines(changedLinesOfCode);
+		}
+		var output = doFormat(engineAndLinters, pathAndContent);
 		if (!Strings.isNullOrEmpty(output) && !code.equals(output)) {
 			LOGGER.info("Path={} successfully cleaned by {}", filePath, engineAndLinters);
 			pathToMutatedContent.put(filePath, output);
+			// Remapped once here, so that next engines do not need to load again the original content
+			pathAndContent.withContent(output)
+					.getChangedLines()
+					.ifPresent(remappedLines -> pathToMutatedChangedLines.put(filePath, remappedLines));
 
 			if (pathToMutatedContent.size() > MAX_LOG_MANY_FILES
 					&& Integer.bitCount(pathToMutatedContent.size()) == 1) {
 				LOGGER.warn("We are about to commit {} files. That's quite a lot.", pathToMutatedContent.size());
 			}
 
-			return true;
+			return KEY_NB_FILES_FORMATTED;
 		} else {
-			return false;
+			return KEY_NB_FILES_ALREADY_FORMATTED;
 		}
 	}
 
@@ -418,20 +521,29 @@ public class CodeProviderFormatter implements ICodeProviderFormatter {
 	 * @param codeProvider
 	 * @param pathToMutatedContent
 	 * @param filePath
+	 * @param engine
+	 *            the engine for which the content is loaded
 	 * @return an {@link Optional} of the content.
 	 */
 	public Optional<String> loadCodeOptMutated(ICodeProvider codeProvider,
 			Map<Path, String> pathToMutatedContent,
-			Path filePath) {
+			Path filePath,
+			String engine) {
 		var optAlreadyMutated = Optional.ofNullable(pathToMutatedContent.get(filePath));
 
 		if (optAlreadyMutated.isPresent()) {
 			return optAlreadyMutated;
 		} else {
+			var event = new LoadEvent();
+			event.begin();
+			Optional<String> optContent = Optional.empty();
 			try {
-				return codeProvider.loadContentForPath(filePath);
+				optContent = codeProvider.loadContentForPath(filePath);
+				return optContent;
 			} catch (IOException e) {
 				throw new UncheckedIOException(e);
+			} finally {
+				event.endAndCommit(filePath, engine, null, null, optContent.orElse(null));
 			}
 		}
 	}
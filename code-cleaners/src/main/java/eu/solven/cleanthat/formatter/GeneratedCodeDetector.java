@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.formatter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import eu.solven.cleanthat.config.pojo.CleanthatGeneratedCodeProperties;
+
+/**
+ * Detects generated files from their head, without parsing them. This is cheap enough to be done over each file,
+ * before any engine is invoked.
+ *
+ * The signatures (e.g. `Code generated .* DO NOT EDIT`) are searched only in the leading comment block, and the
+ * `@Generated` annotation is considered only if it is the one from `javax.annotation`, `javax.annotation.processing`
+ * or `jakarta.annotation`, and if it annotates a type.
+ *
+ * @author Benoit Lacelle
+ */
+public class GeneratedCodeDetector {
+	public static final String REASON_LONG_LINES = "long_lines";
+	public static final String REASON_SIGNATURE_PREFIX = "signature:";
+	public static final String REASON_GENERATED_ANNOTATION = "generated_annotation";
+
+	private static final String GENERATED_PACKAGE = "(?:javax|jakarta)\\.annotation(?:\\.processing)?";
+
+	// The arguments of an annotation, which may hold some `)` in String literals
+	private static final String ANNOTATION_ARGUMENTS = "(?:\\s*\\((?:\"(?:\\\\.|[^\"\\\\])*\"|[^)\"])*\\))?";
+
+	// Other annotations and modifiers, up to the type declaration
+	private static final String ON_TYPE = "\\b" + ANNOTATION_ARGUMENTS
+			+ "\\s*(?:@[\\w.]+"
+			+ ANNOTATION_ARGUMENTS
+			+ "\\s*|(?:public|protected|private|abstract|final|static|strictfp|sealed|non-sealed)\\s+)*"
+			+ "(?:class|interface|enum|record|@\\s*interface)\\b";
+
+	private static final Pattern QUALIFIED_GENERATED_ON_TYPE =
+			Pattern.compile("@" + GENERATED_PACKAGE + "\\.Generated" + ON_TYPE);
+	private static final Pattern SIMPLE_GENERATED_ON_TYPE = Pattern.compile("@Generated" + ON_TYPE);
+	private static final Pattern IMPORT_GENERATED =
+			Pattern.compile("^\\s*import\\s+" + GENERATED_PACKAGE + "\\.Generated\\s*;", Pattern.MULTILINE);
+
+	// String literals are matched to prevent considering `"http://..."` as a comment
+	private static final Pattern STRING_OR_COMMENT =
+			Pattern.compile("\"(?:\\\\.|[^\"\\\\\\n])*\"|//[^\\n]*|/\\*.*?(?:\\*/|$)", Pattern.DOTALL);
+
+	final CleanthatGeneratedCodeProperties properties;
+	final List<Pattern> signatures;
+
+	public GeneratedCodeDetector(CleanthatGeneratedCodeProperties properties) {
+		this.properties = properties;
+		this.signatures = properties.getSignatures().stream().map(Pattern::compile).collect(Collectors.toList());
+	}
+
+	/**
+	 * 
+	 * @param content
+	 * @return the reason why given content is considered generated (e.g. `signature:Code generated .*DO NOT EDIT`), or
+	 *         empty if it is not considered generated.
+	 */
+	public Optional<String> detectGenerated(String content) {
+		if (!properties.isSkip()) {
+			return Optional.empty();
+		}
+
+		var head = content.substring(0, Math.min(content.length(), properties.getHeadSize()));
+
+		var leadingComments = leadingComments(head);
+		for (Pattern signature : signatures) {
+			if (signature.matcher(leadingComments).find()) {
+				return Optional.of(REASON_SIGNATURE_PREFIX + signature.pattern());
+			}
+		}
+
+		if (properties.isGeneratedAnnotation() && hasGeneratedAnnotation(head)) {
+			return Optional.of(REASON_GENERATED_ANNOTATION);
+		}
+
+		var minFileSize = properties.getLongLinesMinFileSize();
+		if (minFileSize > 0 && content.length() >= minFileSize && hasLongLine(head, properties.getLongLineLength())) {
+			return Optional.of(REASON_LONG_LINES);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * 
+	 * @param head
+	 * @return the comments (and whitespaces) preceding the first token of code.
+	 */
+	static String leadingComments(String head) {
+		var index = 0;
+		while (index < head.length()) {
+			if (Character.isWhitespace(head.charAt(index))) {
+				index++;
+			} else if (head.startsWith("//", index)) {
+				var endOfLine = head.indexOf('\n', index);
+				index = endOfLine < 0 ? head.length() : endOfLine + 1;
+			} else if (head.startsWith("/*", index)) {
+				var endOfComment = head.indexOf("*/", index + 2);
+				index = endOfComment < 0 ? head.length() : endOfComment + 2;
+			} else {
+				break;
+			}
+		}
+		return head.substring(0, index);
+	}
+
+	private static boolean hasGeneratedAnnotation(String head) {
+		if (!head.contains("Generated")) {
+			return false;
+		}
+
+		var code = withoutComments(head);
+		if (QUALIFIED_GENERATED_ON_TYPE.matcher(code).find()) {
+			return true;
+		}
+
+		// A simple `@Generated` may be any other annotation (e.g. `org.hibernate.annotations.Generated`)
+		return IMPORT_GENERATED.matcher(code).find() && SIMPLE_GENERATED_ON_TYPE.matcher(code).find();
+	}
+
+	private static String withoutComments(String head) {
+		var matcher = STRING_OR_COMMENT.matcher(head);
+		var sb = new StringBuilder(head.length());
+		while (matcher.find()) {
+			var isComment = matcher.group().charAt(0) == '/';
+			matcher.appendReplacement(sb, isComment ? " " : Matcher.quoteReplacement(matcher.group()));
+		}
+		matcher.appendTail(sb);
+		return sb.toString();
+	}
+
+	private static boolean hasLongLine(CharSequence head, int longLineLength) {
+		var lineLength = 0;
+		for (var i = 0; i < head.length(); i++) {
+			var c = head.charAt(i);
+			if (c == '\n' || c == '\r') {
+				lineLength = 0;
+			} else {
+				lineLength++;
+				if (lineLength > longLineLength) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.formatter;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import com.google.common.base.Strings;
+
+import eu.solven.cleanthat.config.pojo.CleanthatGeneratedCodeProperties;
+
+public class TestGeneratedCodeDetector {
+	final CleanthatGeneratedCodeProperties properties = new CleanthatGeneratedCodeProperties();
+
+	@Test
+	public void testNotGenerated() {
+		var detector = new GeneratedCodeDetector(properties);
+
+		Assertions.assertThat(detector.detectGenerated("package some;\n\npublic class SomeClass {}")).isEmpty();
+
+		// JPA `@GeneratedValue` is not a generated file
+		Assertions.assertThat(detector.detectGenerated("class SomeEntity {\n\t@GeneratedValue\n\tLong id;\n}"))
+				.isEmpty();
+	}
+
+	@Test
+	public void testGeneratedAnnotation() {
+		var detector = new GeneratedCodeDetector(properties);
+
+		Assertions
+				.assertThat(detector.detectGenerated(
+						"package some;\n\n@javax.annotation.processing.Generated(\"someGenerator\")\npublic class SomeClass {}"))
+				.contains(GeneratedCodeDetector.REASON_GENERATED_ANNOTATION);
+		Assertions
+				.assertThat(detector.detectGenerated("package some;\n\nimport jakarta.annotation.Generated;\n\n"
+						+ "@Generated(value = \"someGenerator (v1)\")\n@SuppressWarnings(\"all\")\npublic final class SomeClass {}"))
+				.contains(GeneratedCodeDetector.REASON_GENERATED_ANNOTATION);
+
+		// Not imported: this may be any other `@Generated`
+		Assertions.assertThat(detector.detectGenerated("@Generated\npublic class SomeClass {}")).isEmpty();
+	}
+
+	@Test
+	public void testGeneratedAnnotation_inComment() {
+		var detector = new GeneratedCodeDetector(properties);
+
+		Assertions
+				.assertThat(detector.detectGenerated("package some;\n\n"
+						+ "// Unlike `@javax.annotation.Generated` classes, this one is written by hand\n"
+						+ "/** Not @javax.annotation.Generated class */\n"
+						+ "public class SomeClass {}"))
+				.isEmpty();
+	}
+
+	@Test
+	public void testGeneratedAnnotation_hibernate() {
+		var detector = new GeneratedCodeDetector(properties);
+
+		// Hibernate `@Generated` marks a value generated by the database
+		Assertions
+				.assertThat(detector.detectGenerated(
+						"package some;\n\nclass SomeEntity {\n\t@org.hibernate.annotations.Generated\n\tLong version;\n}"))
+				.isEmpty();
+		Assertions.assertThat(detector.detectGenerated("package some;\n\nimport org.hibernate.annotations.Generated;\n\n"
+				+ "class SomeEntity {\n\t@Generated\n\tLong version;\n}")).isEmpty();
+	}
+
+	@Test
+	public void testGeneratedHeaders() {
+		var detector = new GeneratedCodeDetector(properties);
+
+		Assertions.assertThat(detector.detectGenerated("// Code generated by protoc-gen-go. DO NOT EDIT.\n"))
+				.isPresent();
+		Assertions.assertThat(detector.detectGenerated("// Generated by the protocol buffer compiler.  DO NOT EDIT!\n"))
+				.isPresent();
+		Assertions.assertThat(detector.detectGenerated("// Generated from Java.g4 by ANTLR 4.13.1\n")).isPresent();
+		Assertions.assertThat(detector.detectGenerated("/*\n * This file is generated by jOOQ.\n */\n")).isPresent();
+	}
+
+	@Test
+	public void testGeneratedHeaders_notLeadingComment() {
+		var detector = new GeneratedCodeDetector(properties);
+
+		Assertions.assertThat(detector.detectGenerated(
+				"package some;\n\n// Code generated by protoc-gen-go. DO NOT EDIT.\npublic class SomeClass {}"))
+				.isEmpty();
+		Assertions.assertThat(detector.detectGenerated(
+				"package some;\n\nclass SomeClass {\n\tString s = \"This file is generated by jOOQ\";\n}")).isEmpty();
+	}
+
+	@Test
+	public void testSignatureAfterHead() {
+		properties.setHeadSize(16);
+		var detector = new GeneratedCodeDetector(properties);
+
+		Assertions.assertThat(detector.detectGenerated(Strings.repeat(" ", 16) + "@javax.annotation.Generated class A {}"))
+				.isEmpty();
+	}
+
+	@Test
+	public void testLongLines() {
+		properties.setLongLinesMinFileSize(1024);
+		properties.setLongLineLength(100);
+		var detector = new GeneratedCodeDetector(properties);
+
+		var longLine = "int[] values = {" + Strings.repeat("0, ", 1000) + "};\n";
+		Assertions.assertThat(detector.detectGenerated(longLine)).contains(GeneratedCodeDetector.REASON_LONG_LINES);
+
+		// Many short lines
+		Assertions.assertThat(detector.detectGenerated(Strings.repeat("int i = 0;\n", 1000))).isEmpty();
+
+		// A long line in a small file
+		Assertions.assertThat(detector.detectGenerated(Strings.repeat("0, ", 200))).isEmpty();
+	}
+
+	@Test
+	public void testLongLines_offByDefault() {
+		var detector = new GeneratedCodeDetector(properties);
+
+		var longLine = "int[] values = {" + Strings.repeat("0, ", 64 * 1024) + "};\n";
+		Assertions.assertThat(detector.detectGenerated(longLine)).isEmpty();
+	}
+
+	@Test
+	public void testCustomSignatures_notSkipped() {
+		properties.setSignatures(List.of("@MyGenerator"));
+		var detector = new GeneratedCodeDetector(properties);
+
+		Assertions.assertThat(detector.detectGenerated("// @MyGenerator\nclass SomeClass {}")).isPresent();
+		Assertions.assertThat(detector.detectGenerated("// Code generated by protoc-gen-go. DO NOT EDIT.\n")).isEmpty();
+
+		properties.setSkip(false);
+		Assertions.assertThat(new GeneratedCodeDetector(properties).detectGenerated("// @MyGenerator\nclass SomeClass {}"))
+				.isEmpty();
+	}
+
+	@Test
+	public void testGeneratedAnnotation_disabled() {
+		properties.setGeneratedAnnotation(false);
+		var detector = new GeneratedCodeDetector(properties);
+
+		Assertions.assertThat(detector.detectGenerated("@javax.annotation.Generated(\"someGenerator\")\nclass SomeClass {}"))
+				.isEmpty();
+	}
+}
@@ -16,6 +16,9 @@
 package eu.solven.cleanthat.codeprovider;
 
 import java.nio.file.Path;
+import java.util.Optional;
+
+import com.google.common.collect.RangeSet;
 
 import eu.solven.cleanthat.code_provider.CleanthatPathHelpers;
 
@@ -28,6 +31,7 @@ import eu.solven.cleanthat.code_provider.CleanthatPathHelpers;
 public final class DummyCodeProviderFile implements ICodeProviderFile {
 	private final Path path;
 	private final Object raw;
+	private final Optional<RangeSet<Integer>> changedLines;
 
 	/**
 	 * 
@@ -36,6 +40,18 @@ public final class DummyCodeProviderFile implements ICodeProviderFile {
 	 * @param raw
 	 */
 	public DummyCodeProviderFile(Path path, Object raw) {
+		this(path, raw, Optional.empty());
+	}
+
+	/**
+	 * 
+	 * @param path
+	 *            path of the file, consider '/' is the root of the repository
+	 * @param raw
+	 * @param changedLines
+	 *            the 1-based lines which has been changed, if known
+	 */
+	public DummyCodeProviderFile(Path path, Object raw, Optional<RangeSet<Integer>> changedLines) {
 		if (raw instanceof DummyCodeProviderFile) {
 			throw new IllegalArgumentException("input can not be an instance of " + this.getClass());
 		}
@@ -44,6 +60,7 @@ public final class DummyCodeProviderFile implements ICodeProviderFile {
 
 		this.path = path;
 		this.raw = raw;
+		this.changedLines = changedLines;
 	}
 
 	@Override
@@ -55,4 +72,9 @@ public final class DummyCodeProviderFile implements ICodeProviderFile {
 	public Object getRaw() {
 		return raw;
 	}
+
+	@Override
+	public Optional<RangeSet<Integer>> getChangedLines() {
+		return changedLines;
+	}
 }
@@ -16,6 +16,9 @@
 package eu.solven.cleanthat.codeprovider;
 
 import java.nio.file.Path;
+import java.util.Optional;
+
+import com.google.common.collect.RangeSet;
 
 /**
  * 
@@ -31,4 +34,12 @@ public interface ICodeProviderFile {
 	 * @return
 	 */
 	Object getRaw();
+
+	/**
+	 * 
+	 * @return the 1-based lines which has been changed (e.g. in a pull-request), if this is known.
+	 */
+	default Optional<RangeSet<Integer>> getChangedLines() {
+		return Optional.empty();
+	}
 }
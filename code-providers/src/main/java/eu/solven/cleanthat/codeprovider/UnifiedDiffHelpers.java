@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.codeprovider;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
+
+/**
+ * Helps working with unified diffs, like the `patch` of a file in a Github compare.
+ * 
+ * @author Benoit Lacelle
+ *
+ */
+public class UnifiedDiffHelpers {
+	// e.g. `@@ -12,7 +12,9 @@ public class SomeClass {`
+	private static final Pattern HUNK_HEADER = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,\\d+)? @@.*");
+
+	protected UnifiedDiffHelpers() {
+		// hidden
+	}
+
+	/**
+	 * 
+	 * @param patch
+	 *            the hunks of a unified diff, over a single file
+	 * @return the 1-based lines of the new file which are added or modified. A deletion marks the line following it.
+	 *         Empty if the patch is not available (e.g. a binary or a too large file).
+	 */
+	public static Optional<RangeSet<Integer>> parseChangedLines(String patch) {
+		if (Strings.isNullOrEmpty(patch)) {
+			return Optional.empty();
+		}
+
+		RangeSet<Integer> changedLines = TreeRangeSet.create();
+
+		// The line of the new file, given the current hunk
+		var newLine = 0;
+		for (String line : Splitter.onPattern("\r?\n").split(patch)) {
+			var hunkHeader = HUNK_HEADER.matcher(line);
+			if (hunkHeader.matches()) {
+				newLine = Integer.parseInt(hunkHeader.group(1));
+			} else if (newLine <= 0) {
+				// Some header (e.g. `--- a/SomeClass.java`) before the first hunk
+				continue;
+			} else if (line.startsWith("+")) {
+				changedLines.add(Range.closedOpen(newLine, newLine + 1));
+				newLine++;
+			} else if (line.startsWith("-")) {
+				// The removed line is not in the new file: we mark the line replacing it
+				changedLines.add(Range.closedOpen(newLine, newLine + 1));
+			} else if (!line.startsWith("\\")) {
+				// A context line. `\ No newline at end of file` is skipped
+				newLine++;
+			}
+		}
+
+		return Optional.of(ImmutableRangeSet.copyOf(changedLines));
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.codeprovider;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+
+public class TestUnifiedDiffHelpers {
+	@Test
+	public void testNoPatch() {
+		Assertions.assertThat(UnifiedDiffHelpers.parseChangedLines(null)).isEmpty();
+		Assertions.assertThat(UnifiedDiffHelpers.parseChangedLines("")).isEmpty();
+	}
+
+	@Test
+	public void testAddedAndRemoved() {
+		String patch = "@@ -10,6 +10,7 @@ public class SomeClass {\n" + " \tint a;\n"
+				+ "-\tint b;\n"
+				+ "+\tint bb;\n"
+				+ "+\tint bbb;\n"
+				+ " \tint c;\n"
+				+ " \tint d;\n"
+				+ "@@ -40,3 +41,2 @@ public class SomeClass {\n"
+				+ " \tint x;\n"
+				+ "-\tint y;\n"
+				+ " \tint z;\n"
+				+ "\\ No newline at end of file";
+
+		var changedLines = UnifiedDiffHelpers.parseChangedLines(patch);
+
+		Assertions.assertThat(changedLines)
+				.contains(ImmutableRangeSet.<Integer>builder()
+						.add(Range.closedOpen(11, 13))
+						.add(Range.closedOpen(42, 43))
+						.build());
+	}
+
+	@Test
+	public void testCrLf() {
+		String patch = "@@ -0,0 +1,2 @@\r\n" + "+a\r\n" + "+b";
+
+		var changedLines = UnifiedDiffHelpers.parseChangedLines(patch);
+
+		Assertions.assertThat(changedLines).contains(ImmutableRangeSet.of(Range.closedOpen(1, 3)));
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.config.pojo;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.google.common.collect.ImmutableList;
+
+import lombok.Data;
+
+/**
+ * The configuration of the detection of generated files. Generated files are skipped before being processed by any
+ * engine, as they would be generated again anyway. The detection is done over the head of each file, without parsing
+ * it.
+ *
+ * @author Benoit Lacelle
+ */
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+@SuppressWarnings("PMD.ImmutableField")
+@Data
+public final class CleanthatGeneratedCodeProperties {
+	public static final List<String> DEFAULT_SIGNATURES = ImmutableList.of(
+			// e.g. `// Code generated by protoc-gen-go. DO NOT EDIT.`
+			"Code generated .*DO NOT EDIT",
+			// protobuf
+			"Generated by the protocol buffer compiler",
+			// ANTLR, e.g. `// Generated from Java.g4 by ANTLR 4.13.1`
+			"Generated from .* by ANTLR",
+			// jOOQ
+			"This file is generated by jOOQ");
+
+	/**
+	 * If false, generated files are processed like any other file.
+	 */
+	private boolean skip = true;
+
+	/**
+	 * Regexes (see {@link java.util.regex.Pattern}) searched in the leading comment block of each file. A file holding
+	 * any of them is considered generated.
+	 */
+	private List<String> signatures = DEFAULT_SIGNATURES;
+
+	/**
+	 * If true, a file which type is annotated with `@Generated` from `javax.annotation`,
+	 * `javax.annotation.processing` or `jakarta.annotation` is considered generated.
+	 */
+	private boolean generatedAnnotation = true;
+
+	/**
+	 * The number of leading characters in which the signatures and the `@Generated` annotation are searched.
+	 */
+	private int headSize = 4 * 1024;
+
+	/**
+	 * Files larger than this size (in characters) are considered generated (e.g. minified, or holding huge literals)
+	 * if their head holds a line longer than {@link #longLineLength}. 0 disables this detection, which is the default
+	 * as this heuristic may match some hand-written files (e.g. `65536` is a sensible opt-in value).
+	 */
+	private int longLinesMinFileSize = 0;
+
+	private int longLineLength = 1000;
+
+}
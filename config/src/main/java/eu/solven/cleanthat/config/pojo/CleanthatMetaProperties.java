@@ -60,6 +60,26 @@ public final class CleanthatMetaProperties {
 	@Builder.Default
 	private boolean canEditNotProtectedBranches = true;
 
+	/**
+	 * The wall-clock budget, in milliseconds, to process a single file with a single engine. A file exceeding its
+	 * budget (e.g. a huge generated parser) is left unchanged, and reported. 0 means no budget.
+	 */
+	@Builder.Default
+	private long fileBudgetMs = 0L;
+
+	/**
+	 * Generated files are skipped before being processed by any engine.
+	 */
+	@Builder.Default
+	private CleanthatGeneratedCodeProperties generatedCode = new CleanthatGeneratedCodeProperties();
+
+	/**
+	 * On a diff (e.g. a pull-request), the cleaning is restricted to the changed lines, when the engine supports it.
+	 * This reduces the work and the noise when only a few lines of a large legacy file are changed.
+	 */
+	@Builder.Default
+	private boolean cleanOnlyChangedLines = false;
+
 	public List<String> getLabels() {
 		return labels;
 	}
@@ -40,6 +40,7 @@ import eu.solven.cleanthat.codeprovider.DummyCodeProviderFile;
 import eu.solven.cleanthat.codeprovider.ICodeProvider;
 import eu.solven.cleanthat.codeprovider.ICodeProviderFile;
 import eu.solven.cleanthat.codeprovider.IListOnlyModifiedFiles;
+import eu.solven.cleanthat.codeprovider.UnifiedDiffHelpers;
 import eu.solven.pepper.logging.PepperLogHelper;
 
 /**
@@ -107,7 +108,9 @@ public abstract class AGithubDiffCodeProvider extends AGithubCodeProvider implem
 				LOGGER.debug("Skip a removed file: {}", fileName);
 			} else {
 				Path contentPath = CleanthatPathHelpers.makeContentPath(getRepositoryRoot(), fileName);
-				consumer.accept(new DummyCodeProviderFile(contentPath, prFile));
+				// The patch may be missing (e.g. for a binary or a large file)
+				var changedLines = UnifiedDiffHelpers.parseChangedLines(prFile.getPatch());
+				consumer.accept(new DummyCodeProviderFile(contentPath, prFile, changedLines));
 			}
 		});
 	}
@@ -16,6 +16,8 @@
 package eu.solven.cleanthat.engine.java.eclipse;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -25,13 +27,22 @@ import org.eclipse.jdt.core.formatter.CodeFormatter;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
 import org.eclipse.text.edits.MalformedTreeException;
 import org.eclipse.text.edits.TextEdit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.ContiguousSet;
+import com.google.common.collect.DiscreteDomain;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+
 import eu.solven.cleanthat.formatter.ILintFixerWithId;
+import eu.solven.cleanthat.formatter.ILintFixerWithPath;
 import eu.solven.cleanthat.formatter.LineEnding;
+import eu.solven.cleanthat.formatter.PathAndContent;
 import eu.solven.pepper.logging.PepperLogHelper;
 
 /**
@@ -43,7 +54,7 @@ import eu.solven.pepper.logging.PepperLogHelper;
 // Example configurations:
 // https://raw.githubusercontent.com/spring-io/spring-javaformat/master/.eclipse/eclipse-code-formatter.xml
 // https://raw.githubusercontent.com/solven-eu/pepper/master/static/src/main/resources/eclipse/eclipse_java_code_formatter.xml
-public class EclipseJavaFormatter implements ILintFixerWithId {
+public class EclipseJavaFormatter implements ILintFixerWithId, ILintFixerWithPath {
 	private static final Logger LOGGER = LoggerFactory.getLogger(EclipseJavaFormatter.class);
 
 	public static final String ID = "eclipse_formatter";
@@ -65,6 +76,61 @@ public class EclipseJavaFormatter implements ILintFixerWithId {
 
 	@Override
 	public String doFormat(String code) throws IOException {
+		return doFormat(code, new IRegion[] { new Region(0, code.length()) });
+	}
+
+	/**
+	 * Only the changed lines are formatted, if they are provided.
+	 */
+	@Override
+	public String doFormat(PathAndContent pathAndContent) throws IOException {
+		var code = pathAndContent.getContent();
+		var optChangedLines = pathAndContent.getChangedLines();
+		if (optChangedLines.isEmpty()) {
+			return doFormat(code);
+		}
+
+		var regions = toRegions(new Document(code), optChangedLines.get());
+		if (regions.length == 0) {
+			LOGGER.debug("None of the changed lines is in path={}", pathAndContent.getPath());
+			return code;
+		}
+		return doFormat(code, regions);
+	}
+
+	/**
+	 * 
+	 * @param document
+	 * @param changedLines
+	 *            some 1-based lines
+	 * @return the sorted and disjoint {@link IRegion}s covering given lines
+	 */
+	protected static IRegion[] toRegions(IDocument document, RangeSet<Integer> changedLines) {
+		var allLines = Range.closed(1, document.getNumberOfLines());
+
+		List<IRegion> regions = new ArrayList<>();
+		// Lines out of the document are ignored (e.g. a deletion at the end of the file)
+		changedLines.subRangeSet(allLines).asRanges().forEach(range -> {
+			var lines = ContiguousSet.create(range, DiscreteDomain.integers());
+			if (lines.isEmpty()) {
+				return;
+			}
+			int firstLine = lines.first();
+			int lastLine = lines.last();
+
+			try {
+				var offset = document.getLineOffset(firstLine - 1);
+				var lastLineInfo = document.getLineInformation(lastLine - 1);
+				regions.add(new Region(offset, lastLineInfo.getOffset() + lastLineInfo.getLength() - offset));
+			} catch (BadLocationException e) {
+				throw new IllegalArgumentException("Issue with lines=" + lines, e);
+			}
+		});
+
+		return regions.toArray(IRegion[]::new);
+	}
+
+	protected String doFormat(String code, IRegion[] regions) throws IOException {
 		// Make a new formatter to enable thread-safety
 		CodeFormatter formatter = makeFormatter();
 
@@ -72,8 +138,11 @@ public class EclipseJavaFormatter implements ILintFixerWithId {
 		TextEdit textEdit;
 		try {
 			var eolChars = LineEnding.getOrGuess(LineEnding.NATIVE, () -> code);
-			textEdit = formatter.format(CodeFormatter.K_COMPILATION_UNIT
-					| CodeFormatter.F_INCLUDE_COMMENTS, code, 0, code.length(), 0, eolChars);
+			textEdit = formatter.format(CodeFormatter.K_COMPILATION_UNIT | CodeFormatter.F_INCLUDE_COMMENTS,
+					code,
+					regions,
+					0,
+					eolChars);
 			if (textEdit == null) {
 				LOGGER.warn("Code cannot be formatted. Possible cause is unmatched source/target/compliance version.");
 				return null;
@@ -15,22 +15,32 @@
  */
 package eu.solven.cleanthat.engine.java.refactorer;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.DataKey;
 import com.github.javaparser.ast.Node;
-import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
 import com.github.javaparser.resolution.SymbolResolver;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
 
 import eu.solven.cleanthat.SuppressCleanthat;
 import eu.solven.cleanthat.engine.java.refactorer.meta.ICountMutatorIssues;
+import eu.solven.cleanthat.engine.java.refactorer.meta.ICountMutatorVisits;
 import eu.solven.cleanthat.engine.java.refactorer.meta.IJavaparserAstMutator;
+import eu.solven.cleanthat.engine.java.refactorer.meta.IJavaparserNodeMutator;
 import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
+import eu.solven.cleanthat.formatter.TimeBudget;
 import eu.solven.pepper.logging.PepperLogHelper;
 
 /**
@@ -39,7 +49,8 @@ import eu.solven.pepper.logging.PepperLogHelper;
  * @author Benoit Lacelle
  */
 @SuppressWarnings("PMD.GodClass")
-public abstract class AJavaparserAstMutator implements IJavaparserAstMutator, ICountMutatorIssues {
+public abstract class AJavaparserAstMutator
+		implements IJavaparserAstMutator, ICountMutatorIssues, ICountMutatorVisits {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AJavaparserAstMutator.class);
 
 	// Some mutator may edit thr input Node, before cancelling the operation: it would leave the input Node in an
@@ -50,54 +61,183 @@ public abstract class AJavaparserAstMutator implements IJavaparserAstMutator, IC
 	// LexicalPreservingPrinter
 	private static final boolean SIMULATE_BEFORE_EXECUTE = Boolean.getBoolean("cleanthat.simulate_before_execute");
 
+	// Attached to the root of an AST which mutations must not be checked for idempotency
+	private static final DataKey<Boolean> KEY_SKIP_IDEMPOTENCY_CHECK = new DataKey<>() {
+	};
+
+	// Attached to the root of an AST which rejected mutations must not be reverted through an AstChangeJournal
+	private static final DataKey<Boolean> KEY_SKIP_TRANSACTION = new DataKey<>() {
+	};
+
+	// Attached to the root of an AST which some changes could not be reverted: it has to be discarded
+	private static final DataKey<Boolean> KEY_CORRUPTED = new DataKey<>() {
+	};
+
+	// Attached to the root of an AST which mutations are restricted to some lines (e.g. the hunks of a pull-request)
+	private static final DataKey<RangeSet<Integer>> KEY_CHANGED_LINES = new DataKey<>() {
+	};
+
+	// Attached to the root of an AST which has to be prepared (e.g. made printable) right before its first mutation
+	private static final DataKey<Runnable> KEY_ON_FIRST_MUTATION = new DataKey<>() {
+	};
+
 	private final AtomicInteger nbIdempotencyIssues = new AtomicInteger();
 
+	private final AtomicLong nbVisitedNodes = new AtomicLong();
+	private final AtomicLong nbCancellations = new AtomicLong();
+
 	@Override
 	public int getNbIdempotencyIssues() {
 		return nbIdempotencyIssues.get();
 	}
 
+	@Override
+	public long getNbVisitedNodes() {
+		return nbVisitedNodes.get();
+	}
+
+	@Override
+	public long getNbCancellations() {
+		return nbCancellations.get();
+	}
+
+	/**
+	 * Called when a mutation is skipped or cancelled, for metrics purposes.
+	 */
+	protected void countCancellation() {
+		nbCancellations.incrementAndGet();
+	}
+
 	protected abstract boolean processNotRecursively(NodeAndSymbolSolver<?> nodeAndSymbolSolver);
 
 	@Override
 	public Optional<Node> walkAst(Node ast) {
-		var astHasMutated = new AtomicBoolean();
-
-		ast.walk(node -> {
-			boolean nodeHasMutated = walkOneNode(node);
-			if (nodeHasMutated) {
-				astHasMutated.set(true);
-			}
-		});
+		final boolean astHasMutated;
+		if (this instanceof IJavaparserNodeMutator) {
+			astHasMutated = walkCandidates(ast, (IJavaparserNodeMutator) this);
+		} else {
+			astHasMutated = walkLive(List.of(ast), node -> true);
+		}
 
-		if (astHasMutated.get()) {
+		if (astHasMutated) {
 			return Optional.of(ast);
 		} else {
 			return Optional.empty();
 		}
 	}
 
-	private boolean walkOneNode(Node node) {
-		if (node.findCompilationUnit().isEmpty()) {
+	/**
+	 * Walks the AST until the first mutation, e.g. to detect if this mutator would trigger over given AST. The AST is
+	 * left mutated: the caller is responsible for reverting the mutation (e.g. through an {@link AstChangeJournal}).
+	 * 
+	 * The {@link Node}s are walked through {@link #walkNode(Node)}: this skips any check done by an overriding
+	 * {@link #walkAst(Node)}.
+	 * 
+	 * @param ast
+	 * @return the first mutated {@link Node}, as it was before being mutated.
+	 */
+	public Optional<Node> walkUntilFirstMutation(Node ast) {
+		final List<Node> candidates;
+		if (this instanceof IJavaparserNodeMutator) {
+			candidates = JavaparserNodeIndex.getOrMake(ast).getCandidates((IJavaparserNodeMutator) this);
+		} else {
+			candidates = ast.findAll(Node.class);
+		}
+
+		for (Node node : candidates) {
+			if (TimeBudget.checkpoint()) {
+				LOGGER.debug("{} stops walking as its budget is exceeded", this);
+				break;
+			}
+
+			// The candidates are not refreshed, as we stop on the first mutation
+			if (walkNode(node)) {
+				return Optional.of(node);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Walks only the {@link Node}s this mutator is interested in. On the first mutation, we switch to a live walk, as
+	 * `Node.walk` would also walk the {@link Node}s introduced by the mutation.
+	 */
+	private boolean walkCandidates(Node ast, IJavaparserNodeMutator nodeMutator) {
+		var nodeIndex = JavaparserNodeIndex.getOrMake(ast);
+
+		for (Node node : nodeIndex.getCandidates(nodeMutator)) {
+			if (TimeBudget.checkpoint()) {
+				LOGGER.debug("{} stops walking as its budget is exceeded", this);
+				break;
+			}
+
+			if (walkNode(node)) {
+				// The index still describes the AST before the mutation
+				List<Node> pendingRoots = nodeIndex.getPendingRoots(node);
+				walkLive(pendingRoots, nodeMutator::isInterestedIn);
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Walks the given subtrees, in the order of `Node.walk`: the children of a {@link Node} are registered before
+	 * processing the {@link Node}, while its grand-children are registered only when processing its children.
+	 */
+	private boolean walkLive(List<Node> roots, Predicate<Node> isInterested) {
+		var astHasMutated = false;
+
+		Deque<Node> stack = new ArrayDeque<>();
+		Lists.reverse(roots).forEach(stack::push);
+
+		while (!stack.isEmpty()) {
+			if (TimeBudget.checkpoint()) {
+				LOGGER.debug("{} stops walking as its budget is exceeded", this);
+				break;
+			}
+
+			var node = stack.pop();
+			Lists.reverse(node.getChildNodes()).forEach(stack::push);
+
+			if (isInterested.test(node) && walkNode(node)) {
+				astHasMutated = true;
+			}
+		}
+
+		return astHasMutated;
+	}
+
+	/**
+	 * Process a single {@link Node}, without recursion over its children.
+	 * 
+	 * @param node
+	 *            the {@link Node} to process.
+	 * @return true if the {@link Node} (or one of its ancestors or descendants) has been mutated.
+	 */
+	public boolean walkNode(Node node) {
+		nbVisitedNodes.incrementAndGet();
+
+		Optional<CompilationUnit> optCompilationUnit = node.findCompilationUnit();
+		if (optCompilationUnit.isEmpty()) {
 			LOGGER.debug("We skip {} as it or one of its ancestor has been dropped from the AST", node);
 			return false;
 		}
-		{
-			Optional<NodeWithAnnotations> optSuppressedParent =
-					node.findAncestor(n -> n.isAnnotationPresent(SuppressCleanthat.class), NodeWithAnnotations.class);
-			Optional<Node> optSuppressedChildren = node.findFirst(Node.class,
-					n -> n instanceof NodeWithAnnotations<?>
-							&& ((NodeWithAnnotations<?>) n).isAnnotationPresent(SuppressCleanthat.class));
-			if (node instanceof NodeWithAnnotations
-					&& ((NodeWithAnnotations<?>) node).isAnnotationPresent(SuppressCleanthat.class)
-					|| optSuppressedParent.isPresent()
-					|| optSuppressedChildren.isPresent()) {
-				LOGGER.debug("We skip {} due to {}", node, SuppressCleanthat.class.getName());
-				return false;
-			}
+		CompilationUnit compilationUnit = optCompilationUnit.get();
+
+		if (!isInChangedLines(node, compilationUnit)) {
+			LOGGER.debug("We skip {} as it does not intersect the changed lines", node);
+			return false;
 		}
 
-		CompilationUnit compilationUnit = node.findCompilationUnit().get();
+		// The suppressed Nodes are computed once per CompilationUnit, instead of scanning ancestors and descendants
+		if (SuppressCleanthatIndex.getOrMake(compilationUnit).isSuppressed(node)) {
+			LOGGER.debug("We skip {} due to {}", node, SuppressCleanthat.class.getName());
+			countCancellation();
+			return false;
+		}
 
 		// This requires the node to have a compilationUnit
 		SymbolResolver symbolSolver = node.getSymbolResolver();
@@ -209,12 +349,30 @@ public abstract class AJavaparserAstMutator implements IJavaparserAstMutator, IC
 	}
 
 	private boolean executeOnNode(Node node, SymbolResolver symbolSolver, CompilationUnit compilationUnit) {
+		if (compilationUnit.containsData(KEY_CORRUPTED)) {
+			// The AST will be discarded: there is no point in mutating it further
+			return false;
+		}
+
 		NodeAndSymbolSolver<Node> nodeAndSymbolSolver = new NodeAndSymbolSolver<>(node,
 				symbolSolver,
 				compilationUnit,
 				compilationUnit.getPackageDeclaration(),
 				compilationUnit.getImports());
 
+		Runnable onFirstMutation = null;
+		if (compilationUnit.containsData(KEY_ON_FIRST_MUTATION)) {
+			onFirstMutation = compilationUnit.getData(KEY_ON_FIRST_MUTATION);
+		}
+
+		// The changes are recorded, so that they can be reverted if the mutation is rejected
+		AstChangeJournal journal = null;
+		var journalMark = 0;
+		if (!compilationUnit.containsData(KEY_SKIP_TRANSACTION)) {
+			journal = AstChangeJournal.getOrMake(compilationUnit);
+			journalMark = journal.begin();
+		}
+
 		final boolean hasTransformedNode;
 		try {
 			LOGGER.trace("{} is going over {}",
@@ -222,6 +380,10 @@ public abstract class AJavaparserAstMutator implements IJavaparserAstMutator, IC
 					PepperLogHelper.getObjectAndClass(node));
 			hasTransformedNode = processNotRecursively(nodeAndSymbolSolver);
 		} catch (RuntimeException e) {
+			if (journal != null && !journal.rollback(journalMark)) {
+				markCorrupted(compilationUnit);
+			}
+
 			String rangeInSourceCode = "Around lines: " + node.getTokenRange().map(Object::toString).orElse("-");
 			var messageForIssueReporting = messageForIssueReporting(this, node);
 			throw new IllegalArgumentException(
@@ -229,24 +391,39 @@ public abstract class AJavaparserAstMutator implements IJavaparserAstMutator, IC
 					e);
 		}
 
-		if (node.findCompilationUnit().isEmpty()) {
-			// The node (or one of its ancestor) has been removed from the compilation unit
-			// We supposed another node has been inserted somewhere in replacement
-			Optional<Node> broken = compilationUnit.findFirst(Node.class, n -> n.findCompilationUnit().isEmpty());
-			if (broken.isPresent()) {
-				LOGGER.warn("{} has corrupted the AST from `{}` around `{}`", this.getClass(), node, broken.get());
-			}
-		} else {
-			// This sanityCheck is the reason why we first try the mutation on a clone: given we apply the mutation on a
-			// real node only if accepted on a clone, the mutation on the real node should always be accepted, and then
-			// it should not corrupt nodes by creating intermediate Nodes
-			Optional<Node> broken = node.findFirst(Node.class, n -> n.findCompilationUnit().isEmpty());
-			if (broken.isPresent()) {
-				LOGGER.warn("{} has corrupted the AST from `{}` around `{}`", this.getClass(), node, broken.get());
+		Optional<Node> broken = findCorruption(node, compilationUnit);
+		if (broken.isPresent()) {
+			LOGGER.warn("{} has corrupted the AST from `{}` around `{}`", this.getClass(), node, broken.get());
+		}
+
+		var isRejected = !hasTransformedNode;
+		if (journal != null) {
+			if (hasTransformedNode && broken.isEmpty() && onFirstMutation != null) {
+				compilationUnit.removeData(KEY_ON_FIRST_MUTATION);
+
+				// The first mutation is reverted, so that the AST is prepared in its original state
+				if (!journal.rollback(journalMark)) {
+					LOGGER.debug("{} first mutation could not be reverted: the AST has to be parsed again",
+							this.getClass());
+					markCorrupted(compilationUnit);
+					return false;
+				}
+				onFirstMutation.run();
+				return executeOnNode(node, symbolSolver, compilationUnit);
+			} else if (hasTransformedNode && broken.isEmpty()) {
+				journal.commit(journalMark);
+			} else if (journal.rollback(journalMark)) {
+				// An invalid result is reverted like a rejected mutation
+				isRejected = true;
+			} else {
+				LOGGER.debug("{} rejected (or corrupted) a mutation but some changes could not be reverted",
+						this.getClass());
+				markCorrupted(compilationUnit);
+				isRejected = true;
 			}
 		}
 
-		if (hasTransformedNode) {
+		if (!isRejected) {
 			LOGGER.debug("{} transformed something into `{}`", this.getClass(), node);
 
 			idempotencySanityCheck(nodeAndSymbolSolver);
@@ -260,10 +437,116 @@ public abstract class AJavaparserAstMutator implements IJavaparserAstMutator, IC
 		}
 	}
 
+	// The AST may be left inconsistent: it must not be prepared, and it has to be parsed again
+	private static void markCorrupted(CompilationUnit compilationUnit) {
+		compilationUnit.setData(KEY_CORRUPTED, Boolean.TRUE);
+		compilationUnit.removeData(KEY_ON_FIRST_MUTATION);
+	}
+
+	private Optional<Node> findCorruption(Node node, CompilationUnit compilationUnit) {
+		if (node.findCompilationUnit().isEmpty()) {
+			// The node (or one of its ancestor) has been removed from the compilation unit
+			// We supposed another node has been inserted somewhere in replacement
+			return compilationUnit.findFirst(Node.class, n -> n.findCompilationUnit().isEmpty());
+		} else {
+			// This sanityCheck is the reason why we first try the mutation on a clone: given we apply the mutation on a
+			// real node only if accepted on a clone, the mutation on the real node should always be accepted, and then
+			// it should not corrupt nodes by creating intermediate Nodes
+			return node.findFirst(Node.class, n -> n.findCompilationUnit().isEmpty());
+		}
+	}
+
+	/**
+	 * 
+	 * @param ast
+	 *            the root of an AST
+	 * @param checkIdempotency
+	 *            if false, the mutations over given AST are not checked for idempotency. They are checked by default.
+	 */
+	public static void setCheckIdempotency(Node ast, boolean checkIdempotency) {
+		if (checkIdempotency) {
+			ast.removeData(KEY_SKIP_IDEMPOTENCY_CHECK);
+		} else {
+			ast.setData(KEY_SKIP_IDEMPOTENCY_CHECK, Boolean.TRUE);
+		}
+	}
+
+	/**
+	 * 
+	 * @param ast
+	 *            the root of an AST
+	 * @param transactional
+	 *            if false, the changes of a rejected mutation are not reverted through an {@link AstChangeJournal}.
+	 *            They are reverted by default.
+	 */
+	public static void setTransactional(Node ast, boolean transactional) {
+		if (transactional) {
+			ast.removeData(KEY_SKIP_TRANSACTION);
+		} else {
+			ast.setData(KEY_SKIP_TRANSACTION, Boolean.TRUE);
+		}
+	}
+
+	/**
+	 * 
+	 * @param ast
+	 *            the root of an AST
+	 * @return true if some changes of given AST could not be reverted through its {@link AstChangeJournal}. Such an AST
+	 *         may be inconsistent: it has to be discarded, and the source code parsed again.
+	 */
+	public static boolean isCorrupted(Node ast) {
+		return ast.containsData(KEY_CORRUPTED);
+	}
+
+	/**
+	 * 
+	 * @param ast
+	 *            the root of an AST
+	 * @param changedLines
+	 *            the 1-based lines to which the mutations are restricted: only the {@link Node}s intersecting these
+	 *            lines are mutated.
+	 */
+	public static void setChangedLines(Node ast, RangeSet<Integer> changedLines) {
+		ast.setData(KEY_CHANGED_LINES, changedLines);
+	}
+
+	/**
+	 * 
+	 * @param ast
+	 *            the root of an AST
+	 * @param onFirstMutation
+	 *            called right before the first mutation of given AST (e.g. to make it printable only if it is
+	 *            mutated). The first mutation is reverted before calling it, and applied again after it. If the first
+	 *            mutation can not be reverted, it is not called and the AST is marked as corrupted (see
+	 *            {@link #isCorrupted(Node)}). It is ignored if the AST is not transactional.
+	 */
+	public static void setOnFirstMutation(Node ast, Runnable onFirstMutation) {
+		ast.setData(KEY_ON_FIRST_MUTATION, onFirstMutation);
+	}
+
+	private static boolean isInChangedLines(Node node, CompilationUnit compilationUnit) {
+		if (!compilationUnit.containsData(KEY_CHANGED_LINES)) {
+			return true;
+		}
+
+		Optional<com.github.javaparser.Range> optRange = node.getRange();
+		if (optRange.isEmpty()) {
+			// e.g. a Node introduced by a previous mutation
+			return true;
+		}
+
+		var range = optRange.get();
+		return compilationUnit.getData(KEY_CHANGED_LINES).intersects(Range.closed(range.begin.line, range.end.line));
+	}
+
 	private void idempotencySanityCheck(NodeAndSymbolSolver<?> nodeAndSymbolSolver) {
 		if (this.getIds().contains(IMutator.ID_NOOP)) {
 			// 'NoOp' is a special parserRule which always returns true even while it did not transform the code
 			return;
+		} else if (nodeAndSymbolSolver.getCompilationUnit() != null
+				&& nodeAndSymbolSolver.getCompilationUnit().containsData(KEY_SKIP_IDEMPOTENCY_CHECK)) {
+			// e.g. VerificationLevel.FINAL_ONLY
+			return;
 		}
 
 		Node node = nodeAndSymbolSolver.getNode();
@@ -16,11 +16,13 @@
 package eu.solven.cleanthat.engine.java.refactorer;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
@@ -57,6 +59,14 @@ public abstract class AJavaparserNodeMutator extends AJavaparserAstMutator imple
 		return nbRemoveIssues.get();
 	}
 
+	/**
+	 * By default, a mutator restricted to some method names can trigger only if one of these names is present.
+	 */
+	@Override
+	public Set<String> getTriggerTokens() {
+		return getMethodNames();
+	}
+
 	protected Optional<Node> replaceNode(NodeAndSymbolSolver<?> nodeAndSymbolSolver) {
 		throw new UnsupportedOperationException("TODO Implement me in overriden classes");
 	}
@@ -114,17 +124,29 @@ public abstract class AJavaparserNodeMutator extends AJavaparserAstMutator imple
 	}
 
 	protected boolean cancelDueToComment(Node node) {
-		if (node.findFirst(Node.class, n -> n.getComment().isPresent()).isPresent()) {
+		if (hasComment(node)) {
 			// For now, Cleanthat is pretty weak on comment management (due to Javaparser limitations)
 			// So we prefer aborting any modification in case of comment presence, to prevent losing comments
 			// https://github.com/javaparser/javaparser/issues/3677
 			LOGGER.debug("You should cancel the operation due to the presence of a comment");
+			countCancellation();
 			return true;
 		}
 
 		return false;
 	}
 
+	private static boolean hasComment(Node node) {
+		Optional<CompilationUnit> optCompilationUnit = node.findCompilationUnit();
+		if (optCompilationUnit.isPresent()) {
+			// The index is shared by all mutators over given CompilationUnit
+			return CommentedNodesIndex.getOrMake(optCompilationUnit.get()).hasComment(node);
+		} else {
+			// e.g. a Node detached from the AST
+			return CommentedNodesIndex.hasCommentInSubtree(node);
+		}
+	}
+
 	public static void logJavaParserIssue(Object o, Throwable e, String issue) {
 		var msg = "We encounter a case of {} for `{}`. Full-stack is available in 'debug'";
 		if (LOGGER.isDebugEnabled()) {
@@ -135,7 +157,8 @@ public abstract class AJavaparserNodeMutator extends AJavaparserAstMutator imple
 	}
 
 	protected Optional<ResolvedDeclaration> optResolved(Expression expr) {
-		if (expr.findCompilationUnit().isEmpty()) {
+		Optional<SymbolResolutionMemo> optMemo = SymbolResolutionMemo.optMemo(expr);
+		if (optMemo.isEmpty()) {
 			// This node is not hooked anymore on a CompilationUnit
 			return Optional.empty();
 		}
@@ -144,6 +167,10 @@ public abstract class AJavaparserNodeMutator extends AJavaparserAstMutator imple
 			return Optional.empty();
 		}
 
+		return optMemo.get().getDeclaration(expr, () -> doOptResolved(expr));
+	}
+
+	private Optional<ResolvedDeclaration> doOptResolved(Expression expr) {
 		try {
 			Object resolved = ((Resolvable<?>) expr).resolve();
 			return Optional.of((ResolvedDeclaration) resolved);
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.observer.AstObserverAdapter;
+import com.github.javaparser.ast.observer.ObservableProperty;
+import com.google.common.primitives.Primitives;
+
+/**
+ * Records the changes applied to an AST, enabling to rollback them. This is useful as some mutators may edit the AST
+ * before cancelling the operation, which would leave the AST in an inconsistent state.
+ *
+ * The journal is attached to the root {@link Node}, and records changes only while a transaction is opened.
+ *
+ * @author Benoit Lacelle
+ */
+@SuppressWarnings("PMD.GodClass")
+public final class AstChangeJournal {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AstChangeJournal.class);
+
+	private static final DataKey<AstChangeJournal> KEY = new DataKey<>() {
+	};
+
+	// Each entry reverts a single change
+	final List<Undo> undos = new ArrayList<>();
+
+	// The number of opened transactions
+	int depth = 0;
+
+	// true while rolling back, as the undo operations must not be recorded
+	boolean rollingBack = false;
+
+	// true if some change could not be recorded: the rollback would be partial
+	boolean unrecoverable = false;
+
+	private AstChangeJournal() {
+	}
+
+	/**
+	 * Reverts a single change. The parent changes are tracked specifically, as they are reverted after the other
+	 * changes, and checked once the rollback is done.
+	 *
+	 * @author Benoit Lacelle
+	 */
+	static final class Undo {
+		final Runnable revert;
+
+		// Not null if this reverts a parent change
+		final Node child;
+		final Node previousParent;
+
+		private Undo(Runnable revert, Node child, Node previousParent) {
+			this.revert = revert;
+			this.child = child;
+			this.previousParent = previousParent;
+		}
+
+		static Undo change(Runnable revert) {
+			return new Undo(revert, null, null);
+		}
+
+		static Undo parentChange(Node child, Node previousParent) {
+			return new Undo(() -> child.setParentNode(previousParent), child, previousParent);
+		}
+
+		boolean isParentChange() {
+			return child != null;
+		}
+	}
+
+	/**
+	 *
+	 * @param root
+	 * @return the {@link AstChangeJournal} associated to given root {@link Node}, creating it if necessary.
+	 */
+	public static AstChangeJournal getOrMake(Node root) {
+		if (root.containsData(KEY)) {
+			return root.getData(KEY);
+		}
+
+		var journal = new AstChangeJournal();
+
+		// SELF_PROPAGATING registers the observer on Nodes added later to the AST
+		root.register(new AstObserverAdapter() {
+			@Override
+			public void propertyChange(Node observedNode,
+					ObservableProperty property,
+					Object oldValue,
+					Object newValue) {
+				if (journal.isRecording()) {
+					journal.recordPropertyChange(observedNode, property, oldValue, newValue);
+				}
+			}
+
+			@Override
+			public void parentChange(Node observedNode, Node previousParent, Node newParent) {
+				if (journal.isRecording()) {
+					journal.undos.add(Undo.parentChange(observedNode, previousParent));
+				}
+			}
+
+			@Override
+			public void listChange(NodeList<?> observedNode, ListChangeType type, int index, Node nodeAddedOrRemoved) {
+				if (journal.isRecording()) {
+					@SuppressWarnings("unchecked")
+					NodeList<Node> nodeList = (NodeList<Node>) observedNode;
+					if (type == ListChangeType.ADDITION) {
+						journal.undos.add(Undo.change(() -> nodeList.remove(index)));
+					} else {
+						journal.undos.add(Undo.change(() -> nodeList.add(index, nodeAddedOrRemoved)));
+					}
+				}
+			}
+
+			@Override
+			public void listReplacement(NodeList<?> observedNode, int index, Node oldNode, Node newNode) {
+				if (journal.isRecording()) {
+					@SuppressWarnings("unchecked")
+					NodeList<Node> nodeList = (NodeList<Node>) observedNode;
+					journal.undos.add(Undo.change(() -> nodeList.set(index, oldNode)));
+				}
+			}
+		}, Node.ObserverRegistrationMode.SELF_PROPAGATING);
+
+		root.setData(KEY, journal);
+		return journal;
+	}
+
+	private boolean isRecording() {
+		return depth > 0 && !rollingBack;
+	}
+
+	private void recordPropertyChange(Node observedNode, ObservableProperty property, Object oldValue, Object newValue) {
+		Optional<Method> optSetter = findSetter(observedNode, property, oldValue);
+		if (optSetter.isEmpty()) {
+			LOGGER.debug("No way to revert {}.{} from `{}` to `{}`", observedNode, property, newValue, oldValue);
+			unrecoverable = true;
+			return;
+		}
+
+		Method setter = optSetter.get();
+		undos.add(Undo.change(() -> {
+			try {
+				if (setter.getParameterCount() == 0) {
+					setter.invoke(observedNode);
+				} else {
+					setter.invoke(observedNode, oldValue);
+				}
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new IllegalStateException("Issue reverting " + property + " over " + observedNode, e);
+			}
+		}));
+	}
+
+	private static Optional<Method> findSetter(Node observedNode, ObservableProperty property, Object oldValue) {
+		String camelCaseName = property.camelCaseName();
+		String capitalized = Character.toUpperCase(camelCaseName.charAt(0)) + camelCaseName.substring(1);
+
+		if (oldValue == null) {
+			// An optional property was not set: it has to be removed (e.g. `MethodCallExpr.removeScope()`)
+			try {
+				return Optional.of(observedNode.getClass().getMethod("remove" + capitalized));
+			} catch (NoSuchMethodException e) {
+				return Optional.empty();
+			}
+		}
+
+		for (Method method : observedNode.getClass().getMethods()) {
+			if (method.getParameterCount() != 1 || !method.getName().equals("set" + capitalized)) {
+				continue;
+			}
+
+			Class<?> parameterType = Primitives.wrap(method.getParameterTypes()[0]);
+			if (parameterType.isInstance(oldValue)) {
+				return Optional.of(method);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Opens a transaction. Transactions may be nested.
+	 *
+	 * @return the mark to provide to {@link #rollback(int)} or {@link #commit(int)}
+	 */
+	public int begin() {
+		if (depth == 0) {
+			undos.clear();
+			unrecoverable = false;
+		}
+		depth++;
+		return undos.size();
+	}
+
+	/**
+	 * Keeps the changes since given mark.
+	 *
+	 * @param mark
+	 */
+	public void commit(int mark) {
+		depth--;
+		if (depth == 0) {
+			undos.clear();
+		}
+	}
+
+	/**
+	 * 
+	 * @param mark
+	 * @return true if some {@link Node} has been moved (or added, or removed) since given mark
+	 */
+	public boolean hasParentChanges(int mark) {
+		return undos.subList(mark, undos.size()).stream().anyMatch(Undo::isParentChange);
+	}
+
+	/**
+	 * Reverts the changes since given mark, from the latest to the oldest.
+	 *
+	 * The parent changes are reverted after the other changes: reverting a property (e.g. `setExpression(old)`)
+	 * detaches its current value, which may be a moved {@link Node} which parent would have already been restored.
+	 *
+	 * @param mark
+	 * @return false if some changes could not be reverted
+	 */
+	public boolean rollback(int mark) {
+		List<Undo> reverted = new ArrayList<>(undos.subList(mark, undos.size()));
+		undos.subList(mark, undos.size()).clear();
+		Collections.reverse(reverted);
+
+		rollingBack = true;
+		try {
+			reverted.stream().filter(undo -> !undo.isParentChange()).forEach(this::revert);
+			reverted.stream().filter(Undo::isParentChange).forEach(this::revert);
+		} finally {
+			rollingBack = false;
+			depth--;
+		}
+
+		if (!unrecoverable && !hasExpectedParents(reverted)) {
+			LOGGER.debug("Some Node has not been restored into its original parent");
+			unrecoverable = true;
+		}
+
+		boolean fullyReverted = !unrecoverable;
+		if (depth == 0) {
+			undos.clear();
+			unrecoverable = false;
+		}
+		return fullyReverted;
+	}
+
+	private void revert(Undo undo) {
+		try {
+			undo.revert.run();
+		} catch (RuntimeException e) {
+			// e.g. the LexicalPreservingPrinter may fail on some reverted change
+			LOGGER.debug("Issue reverting a change", e);
+			unrecoverable = true;
+		}
+	}
+
+	@SuppressWarnings("PMD.CompareObjectsWithEquals")
+	private static boolean hasExpectedParents(List<Undo> reverted) {
+		// The undos are from the latest to the oldest: the oldest parent change of a Node is its expected parent
+		Map<Node, Node> childToParent = new IdentityHashMap<>();
+		reverted.stream()
+				.filter(Undo::isParentChange)
+				.forEach(undo -> childToParent.put(undo.child, undo.previousParent));
+
+		return childToParent.entrySet()
+				.stream()
+				.allMatch(e -> e.getKey().getParentNode().orElse(null) == e.getValue());
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.observer.AstObserverAdapter;
+import com.github.javaparser.ast.observer.ObservableProperty;
+
+/**
+ * Computes once the {@link Node}s holding a comment in their subtree: the {@link Node}s with a comment, and their
+ * ancestors. It enables checking in constant time if a mutation may lose a comment, instead of scanning the subtree of
+ * each mutated {@link Node}.
+ *
+ * The index is attached to the {@link CompilationUnit}, hence shared by all mutators, and is rebuilt lazily after a
+ * structural change. Checking if a change is related to comments would require scanning the changed subtrees, which
+ * is what this index prevents.
+ *
+ * @author Benoit Lacelle
+ */
+public final class CommentedNodesIndex {
+	private static final DataKey<CommentedNodesIndex> KEY = new DataKey<>() {
+	};
+
+	final Node root;
+
+	// Set to true on any change which may add, remove or move a comment
+	final AtomicBoolean stale = new AtomicBoolean(true);
+
+	// Nodes can not be used in a plain Set, as `Node.equals` is structural
+	final Set<Node> withCommentInSubtree = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private CommentedNodesIndex(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 *
+	 * @param root
+	 * @return the {@link CommentedNodesIndex} associated to given root {@link Node}, creating it if necessary.
+	 */
+	public static CommentedNodesIndex getOrMake(Node root) {
+		if (root.containsData(KEY)) {
+			return root.getData(KEY);
+		}
+
+		var commentIndex = new CommentedNodesIndex(root);
+
+		// SELF_PROPAGATING registers the observer on Nodes added later to the AST
+		root.register(new AstObserverAdapter() {
+			@Override
+			public void propertyChange(Node observedNode,
+					ObservableProperty property,
+					Object oldValue,
+					Object newValue) {
+				// A replaced Node may hold comments in its subtree
+				if (property == ObservableProperty.COMMENT || oldValue instanceof Node || newValue instanceof Node) {
+					commentIndex.stale.set(true);
+				}
+			}
+
+			@Override
+			public void listChange(NodeList<?> observedNode, ListChangeType type, int index, Node nodeAddedOrRemoved) {
+				commentIndex.stale.set(true);
+			}
+
+			@Override
+			public void listReplacement(NodeList<?> observedNode, int index, Node oldNode, Node newNode) {
+				commentIndex.stale.set(true);
+			}
+		}, Node.ObserverRegistrationMode.SELF_PROPAGATING);
+
+		root.setData(KEY, commentIndex);
+		return commentIndex;
+	}
+
+	/**
+	 * 
+	 * @param node
+	 * @return true if given {@link Node}, or one of its descendants, has a comment. This scans the whole subtree.
+	 */
+	public static boolean hasCommentInSubtree(Node node) {
+		return node.findFirst(Node.class, n -> n.getComment().isPresent()).isPresent();
+	}
+
+	private void rebuildIfStale() {
+		if (!stale.getAndSet(false)) {
+			return;
+		}
+
+		withCommentInSubtree.clear();
+
+		root.getComment().ifPresent(comment -> withCommentInSubtree.add(root));
+		for (Comment comment : root.getAllContainedComments()) {
+			// Orphan comments are not attached to a Node
+			Optional<Node> optCommented = comment.getCommentedNode();
+
+			// Ancestors are marked too, stopping on an already marked ancestor
+			while (optCommented.isPresent() && withCommentInSubtree.add(optCommented.get())) {
+				optCommented = optCommented.get().getParentNode();
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @param node
+	 *            a {@link Node} attached to the root of this index
+	 * @return true if given {@link Node}, or one of its descendants, has a comment
+	 */
+	public boolean hasComment(Node node) {
+		rebuildIfStale();
+
+		return withCommentInSubtree.contains(node);
+	}
+}
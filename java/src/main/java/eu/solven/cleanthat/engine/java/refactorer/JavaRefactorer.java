@@ -16,13 +16,16 @@
 package eu.solven.cleanthat.engine.java.refactorer;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.codehaus.plexus.languages.java.version.JavaVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,19 +39,30 @@ import com.github.javaparser.ParseResult;
 import com.github.javaparser.ParserConfiguration;
 import com.github.javaparser.ParserConfiguration.LanguageLevel;
 import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.DataKey;
 import com.github.javaparser.ast.Node;
 import com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter;
 import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.model.SymbolReference;
 import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.cache.GuavaCache;
+import com.github.javaparser.symbolsolver.javaparsermodel.JavaParserFacade;
 import com.github.javaparser.symbolsolver.reflectionmodel.ReflectionClassDeclaration;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.MemoryTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
-import eu.solven.cleanthat.engine.java.IJdkVersionConstants;
+import eu.solven.cleanthat.engine.java.refactorer.meta.FusedJavaparserMutator;
 import eu.solven.cleanthat.engine.java.refactorer.meta.IJavaparserAstMutator;
-import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.AllIncludingDraftSingleMutators;
+import eu.solven.cleanthat.engine.java.refactorer.meta.MutatorDependencies;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.scanner.MutatorsRegistry;
 import eu.solven.cleanthat.formatter.LineEnding;
 import eu.solven.cleanthat.formatter.PathAndContent;
 import eu.solven.cleanthat.language.IEngineProperties;
@@ -66,11 +80,20 @@ public class JavaRefactorer extends AAstRefactorer<Node, JavaParser, Node, IJava
 	// It is ambiguous to give access to access on the classLoader, as it would give insights to custom classes
 	public static final boolean JAVAPARSER_JRE_ONLY = true;
 
+	// Bounds the resolved types shared by all threads
+	private static final int TYPE_CACHE_SIZE = 16 * 1024;
+
+	private static final Supplier<TypeSolver> SHARED_TYPE_SOLVER =
+			Suppliers.memoize(() -> makeDefaultTypeSolver(JAVAPARSER_JRE_ONLY));
+
 	private final IEngineProperties engineProperties;
 	private final JavaRefactorerProperties refactorerProperties;
 
+	// The mutators as walked over the AST, which may differ from the configured mutators (e.g. if they are fused)
+	private final List<IJavaparserAstMutator> walkingMutators;
+
 	public static final Set<String> getAllIncluded() {
-		return new AllIncludingDraftSingleMutators(JavaVersion.parse(IJdkVersionConstants.LAST)).getUnderlyingIds();
+		return MutatorsRegistry.getInstance().getSingleIds();
 	}
 
 	public JavaRefactorer(IEngineProperties engineProperties, JavaRefactorerProperties properties) {
@@ -81,6 +104,125 @@ public class JavaRefactorer extends AAstRefactorer<Node, JavaParser, Node, IJava
 
 		this.engineProperties = engineProperties;
 		this.refactorerProperties = properties;
+
+		List<IJavaparserAstMutator> rawMutators = ImmutableList.copyOf(super.getRawMutators());
+		if (properties.isFusedWalk()) {
+			this.walkingMutators = FusedJavaparserMutator.fuse(rawMutators);
+		} else {
+			this.walkingMutators = rawMutators;
+		}
+	}
+
+	@Override
+	protected Iterable<IJavaparserAstMutator> getRawMutators() {
+		return walkingMutators;
+	}
+
+	@Override
+	protected Function<IJavaparserAstMutator, Collection<IJavaparserAstMutator>> makeEnabledBy(
+			List<IJavaparserAstMutator> mutators) {
+		Set<Class<?>> mutatorClasses =
+				mutators.stream().flatMap(m -> getMutatorClasses(m).stream()).collect(Collectors.toSet());
+
+		return MutatorsScheduler.enabledByClasses(mutators,
+				mutatorClass -> MutatorDependencies.getEnabledClasses(mutatorClass, mutatorClasses),
+				JavaRefactorer::getMutatorClasses);
+	}
+
+	private static Collection<Class<?>> getMutatorClasses(IJavaparserAstMutator mutator) {
+		if (mutator instanceof FusedJavaparserMutator) {
+			return ((FusedJavaparserMutator) mutator).getUnderlyings()
+					.stream()
+					.<Class<?>>map(Object::getClass)
+					.collect(Collectors.toList());
+		} else {
+			return List.of(mutator.getClass());
+		}
+	}
+
+	@Override
+	protected boolean isLiveAst() {
+		return refactorerProperties.isLiveAst();
+	}
+
+	@Override
+	protected long getMutatorBudgetMs() {
+		return refactorerProperties.getMutatorBudgetMs();
+	}
+
+	@Override
+	protected VerificationLevel getVerificationLevel() {
+		return refactorerProperties.getVerification();
+	}
+
+	@Override
+	protected int getVerificationSampling() {
+		return refactorerProperties.getVerificationSampling();
+	}
+
+	@Override
+	protected void onParsed(Node ast, PathAndContent pathAndContent, VerificationLevel verification) {
+		AJavaparserAstMutator.setCheckIdempotency(ast, verification.isCheckingIdempotency());
+		AJavaparserAstMutator.setTransactional(ast, refactorerProperties.isTransactionalMutations());
+		pathAndContent.getChangedLines()
+				.ifPresent(changedLines -> AJavaparserAstMutator.setChangedLines(ast, changedLines));
+	}
+
+	@Override
+	protected void onLiveAstMutated(Node ast) {
+		// JavaParserFacade caches the resolved types as data of each Node: they are dropped as they may be stale
+		ast.walk(node -> {
+			List<DataKey<?>> facadeKeys = node.getDataKeys()
+					.stream()
+					.filter(key -> key.getClass().getEnclosingClass() == JavaParserFacade.class)
+					.collect(Collectors.toList());
+			facadeKeys.forEach(node::removeData);
+		});
+	}
+
+	/**
+	 * The mutation is reverted through an {@link AstChangeJournal}, so that the same AST is walked by next mutators.
+	 * The AST is parsed again if the mutation moved some {@link Node}, as such a rollback is more fragile.
+	 */
+	@Override
+	protected Optional<MutatorFinding> detectFirst(JavaParser parser,
+			PathAndContent pathAndContent,
+			AtomicReference<Node> refCompilationUnit,
+			IJavaparserAstMutator mutator) {
+		if (!(mutator instanceof AJavaparserAstMutator) || FusedJavaparserMutator.overridesAstWalk(mutator)
+				|| !refactorerProperties.isTransactionalMutations()) {
+			// Some mutators checks the whole walk (e.g. `UseExplicitTypes`): they can not stop on the first mutation
+			return super.detectFirst(parser, pathAndContent, refCompilationUnit, mutator);
+		}
+
+		var path = pathAndContent.getPath();
+
+		var compilationUnit = refCompilationUnit.get();
+		var journal = AstChangeJournal.getOrMake(compilationUnit);
+		var journalMark = journal.begin();
+
+		Optional<Node> optMatch;
+		try {
+			optMatch = ((AJavaparserAstMutator) mutator).walkUntilFirstMutation(compilationUnit);
+		} finally {
+			var hasParentChanges = journal.hasParentChanges(journalMark);
+			if (!journal.rollback(journalMark)) {
+				LOGGER.debug("{} left the AST mutated over path={}: it will be parsed again", mutator, path);
+				refCompilationUnit.set(null);
+			} else if (hasParentChanges) {
+				LOGGER.debug("{} moved some nodes over path={}: it will be parsed again", mutator, path);
+				refCompilationUnit.set(null);
+			}
+		}
+
+		return optMatch.map(node -> node.getRange()
+				.map(range -> MutatorFinding.located(mutator,
+						path,
+						range.begin.line,
+						range.begin.column,
+						range.end.line,
+						range.end.column))
+				.orElseGet(() -> MutatorFinding.unlocated(mutator, path)));
 	}
 
 	@Override
@@ -88,6 +230,11 @@ public class JavaRefactorer extends AAstRefactorer<Node, JavaParser, Node, IJava
 		return JavaRefactorerStep.ID_REFACTORER;
 	}
 
+	@Override
+	protected String getEngine() {
+		return engineProperties.getEngine();
+	}
+
 	@Deprecated(since = "Not used anymore. Kept for retrocompatiblity of users (e.g. Spotless)", forRemoval = true)
 	public String doFormat(String dirtyCode, LineEnding eol) throws IOException {
 		return doFormat(dirtyCode);
@@ -96,12 +243,36 @@ public class JavaRefactorer extends AAstRefactorer<Node, JavaParser, Node, IJava
 	@Override
 	public String doFormat(PathAndContent pathAndContent) throws IOException {
 		LOGGER.debug("Refactoring conf={}", this.refactorerProperties);
+		// The unexpected changes from Javaparser are fixed in each spliced region, while printing each mutated AST
 		var cleanCode = applyTransformers(pathAndContent);
-		return fixJavaparserUnexpectedChanges(pathAndContent.getContent(), cleanCode);
+		if (!refactorerProperties.isVerifySplicedOutput()) {
+			return cleanCode;
+		}
+
+		var fixed = fixJavaparserUnexpectedChanges(pathAndContent.getContent(), cleanCode);
+		if (!fixed.equals(cleanCode)) {
+			LOGGER.warn("The spliced output differs from the diff-based output. Please report this to {}",
+					"https://github.com/solven-eu/cleanthat/issues");
+		}
+		return fixed;
 	}
 
 	@Override
 	public Optional<Node> parseSourceCode(JavaParser parser, String sourceCode) {
+		Optional<Node> optCompilationUnit = parseSourceCodeToWalk(parser, sourceCode);
+
+		optCompilationUnit.ifPresent(compilationUnit -> {
+			// https://github.com/javaparser/javaparser/issues/3490
+			// We register given node for later prettyPrinting
+			LexicalPreservingPrinter.setup(compilationUnit);
+			RangeSplicePrinter.setup(compilationUnit, sourceCode);
+		});
+		return optCompilationUnit;
+	}
+
+	// The LexicalPreservingPrinter is not setup, as it is costly while most files are not mutated
+	@Override
+	protected Optional<Node> parseSourceCodeToWalk(JavaParser parser, String sourceCode) {
 		ParseResult<CompilationUnit> parsed = parser.parse(sourceCode);
 
 		if (!parsed.isSuccessful()) {
@@ -112,12 +283,32 @@ public class JavaRefactorer extends AAstRefactorer<Node, JavaParser, Node, IJava
 			return Optional.empty();
 		}
 
-		var compilationUnit = parsed.getResult().get();
+		return Optional.of(parsed.getResult().get());
+	}
+
+	@Override
+	protected boolean isPrintable(Node compilationUnit) {
+		return compilationUnit.containsData(LexicalPreservingPrinter.NODE_TEXT_DATA);
+	}
+
+	@Override
+	protected boolean isCorrupted(Node compilationUnit) {
+		return AJavaparserAstMutator.isCorrupted(compilationUnit);
+	}
 
-		// https://github.com/javaparser/javaparser/issues/3490
-		// We register given node for later prettyPrinting
-		LexicalPreservingPrinter.setup(compilationUnit);
-		return Optional.of(compilationUnit);
+	/**
+	 * The {@link LexicalPreservingPrinter} is setup over the original AST, after reverting its first mutation. This
+	 * requires the mutations to be transactional: else, the AST is parsed again on its first mutation.
+	 */
+	@Override
+	protected void makePrintableOnFirstMutation(Node ast, String sourceCode) {
+		if (!refactorerProperties.isTransactionalMutations()) {
+			return;
+		}
+		AJavaparserAstMutator.setOnFirstMutation(ast, () -> {
+			LexicalPreservingPrinter.setup(ast);
+			RangeSplicePrinter.setup(ast, sourceCode);
+		});
 	}
 
 	@Override
@@ -162,7 +353,7 @@ public class JavaRefactorer extends AAstRefactorer<Node, JavaParser, Node, IJava
 
 		List<String> fixedPatchApplied;
 		try {
-			fixedPatchApplied = diff.applyTo(dirtyRows);
+			fixedPatchApplied = fixedPatch.applyTo(dirtyRows);
 		} catch (PatchFailedException e) {
 			throw new RuntimeException(e);
 		}
@@ -173,25 +364,31 @@ public class JavaRefactorer extends AAstRefactorer<Node, JavaParser, Node, IJava
 	public List<AbstractDelta<String>> computeFixedDelta(Patch<String> diff) {
 		// We will filter some removed rows as they are not legitimate changes from Javaparser
 		// TODO In fact, we should build the patch from the original file, post AST, pre custom modification
-		List<AbstractDelta<String>> fixedDelta = diff.getDeltas().stream().filter(p -> {
-			if (p.getType() == DeltaType.DELETE) {
-				List<String> sourceLines = p.getSource().getLines();
-				Set<String> unique = sourceLines.stream().distinct().collect(Collectors.toSet());
-				if (unique.size() == 1) {
-					var uniqueTrimmer = unique.iterator().next().trim();
-					// if empty: it corresponds to consecutive EOL
-					// if '*': it corresponds to empty rows in a Javadoc
-					if (uniqueTrimmer.isEmpty() || "*".equals(uniqueTrimmer)) {
-						return false;
-					}
-				}
+		List<AbstractDelta<String>> fixedDelta =
+				diff.getDeltas().stream().filter(p -> !isJavaparserUnexpectedChange(p)).collect(Collectors.toList());
+		return fixedDelta;
+	}
 
-				return true;
-			} else {
-				return true;
+	/**
+	 * 
+	 * @param delta
+	 * @return true if given delta is not a legitimate change, but an unexpected change from Javaparser.
+	 */
+	static boolean isJavaparserUnexpectedChange(AbstractDelta<String> delta) {
+		if (delta.getType() == DeltaType.DELETE) {
+			List<String> sourceLines = delta.getSource().getLines();
+			Set<String> unique = sourceLines.stream().distinct().collect(Collectors.toSet());
+			if (unique.size() == 1) {
+				var uniqueTrimmer = unique.iterator().next().trim();
+				// if empty: it corresponds to consecutive EOL
+				// if '*': it corresponds to empty rows in a Javadoc
+				if (uniqueTrimmer.isEmpty() || "*".equals(uniqueTrimmer)) {
+					return true;
+				}
 			}
-		}).collect(Collectors.toList());
-		return fixedDelta;
+		}
+
+		return false;
 	}
 
 	// This should probably be removed. We keep it only until we valid the Diff library is working OK
@@ -214,7 +411,27 @@ public class JavaRefactorer extends AAstRefactorer<Node, JavaParser, Node, IJava
 
 	@Override
 	protected String toString(Node compilationUnit) {
-		return LexicalPreservingPrinter.print(compilationUnit);
+		// The spliced regions are fixed from the unexpected changes of Javaparser by the RangeSplicePrinter
+		Optional<String> optSpliced = RangeSplicePrinter.optPrint(compilationUnit);
+		if (optSpliced.isPresent()) {
+			return optSpliced.get();
+		}
+
+		// The whole file is printed (e.g. the mutated region is the whole CompilationUnit): the whole file is fixed
+		var printed = LexicalPreservingPrinter.print(compilationUnit);
+		return fixJavaparserUnexpectedChanges(RangeSplicePrinter.optSourceCode(compilationUnit), printed);
+	}
+
+	private String fixJavaparserUnexpectedChanges(Optional<String> optSourceCode, String printed) {
+		if (optSourceCode.isEmpty()) {
+			return printed;
+		}
+
+		try {
+			return fixJavaparserUnexpectedChanges(optSourceCode.get(), printed);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
 	public static TypeSolver makeDefaultTypeSolver(boolean jreOnly) {
@@ -227,7 +444,21 @@ public class JavaRefactorer extends AAstRefactorer<Node, JavaParser, Node, IJava
 		var memoryTypeSolver = new MemoryTypeSolver();
 		var guavaImmutableMap = new ReflectionClassDeclaration(ImmutableMap.class, reflectionTypeSolver);
 		memoryTypeSolver.addDeclaration(ImmutableMap.class.getName(), guavaImmutableMap);
-		return new CombinedTypeSolver(reflectionTypeSolver, memoryTypeSolver);
+
+		// The default cache (InMemoryCache) is not thread-safe, while a Guava Cache is
+		Cache<String, SymbolReference<ResolvedReferenceTypeDeclaration>> typeCache =
+				CacheBuilder.newBuilder().maximumSize(TYPE_CACHE_SIZE).build();
+		return new CombinedTypeSolver(CombinedTypeSolver.ExceptionHandlers.IGNORE_NONE,
+				Arrays.asList(reflectionTypeSolver, memoryTypeSolver),
+				GuavaCache.create(typeCache));
+	}
+
+	/**
+	 * 
+	 * @return a {@link TypeSolver} shared by all threads, so that JRE types are resolved once per process.
+	 */
+	public static TypeSolver getSharedTypeSolver() {
+		return SHARED_TYPE_SOLVER.get();
 	}
 
 	public static JavaParser makeDefaultJavaParser(boolean jreOnly) {
@@ -235,7 +466,10 @@ public class JavaRefactorer extends AAstRefactorer<Node, JavaParser, Node, IJava
 	}
 
 	public static JavaParser makeDefaultJavaParser(boolean jreOnly, LanguageLevel languageLevel) {
-		var reflectionTypeSolver = makeDefaultTypeSolver(jreOnly);
+		if (jreOnly != JAVAPARSER_JRE_ONLY) {
+			LOGGER.warn("We force jreOnly to {}", JAVAPARSER_JRE_ONLY);
+		}
+		var reflectionTypeSolver = getSharedTypeSolver();
 
 		var symbolResolver = new JavaSymbolSolver(reflectionTypeSolver);
 
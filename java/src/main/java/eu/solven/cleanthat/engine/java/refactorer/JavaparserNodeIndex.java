@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.observer.AstObserverAdapter;
+import com.github.javaparser.ast.observer.ObservableProperty;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+
+import eu.solven.cleanthat.engine.java.refactorer.meta.IJavaparserNodeMutator;
+
+/**
+ * Indexes the {@link Node}s of an AST by type, and {@link MethodCallExpr} by method name. It enables an
+ * {@link IJavaparserNodeMutator} to walk only the {@link Node}s it is interested in.
+ *
+ * The index is attached to the root {@link Node}, and is rebuilt lazily after any change in the AST.
+ *
+ * @author Benoit Lacelle
+ */
+public final class JavaparserNodeIndex {
+	private static final DataKey<JavaparserNodeIndex> KEY = new DataKey<>() {
+	};
+
+	final Node root;
+
+	// Set to true on any modification of the AST
+	final AtomicBoolean stale = new AtomicBoolean(true);
+
+	// Nodes in the order of `Node.walk`
+	final List<Node> preOrder = new ArrayList<>();
+	// Nodes can not be used as keys of a plain Map, as `Node.equals` is structural
+	final Map<Node, Integer> preOrderIndexes = new IdentityHashMap<>();
+	// The preOrder index following the subtree of each Node
+	final List<Integer> subtreeEnds = new ArrayList<>();
+	final ListMultimap<Class<?>, Node> byClass = ArrayListMultimap.create();
+	final ListMultimap<String, Node> byMethodName = ArrayListMultimap.create();
+
+	private JavaparserNodeIndex(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 *
+	 * @param root
+	 * @return the {@link JavaparserNodeIndex} associated to given root {@link Node}, creating it if necessary.
+	 */
+	public static JavaparserNodeIndex getOrMake(Node root) {
+		if (root.containsData(KEY)) {
+			return root.getData(KEY);
+		}
+
+		var nodeIndex = new JavaparserNodeIndex(root);
+
+		// SELF_PROPAGATING registers the observer on Nodes added later to the AST
+		root.register(new AstObserverAdapter() {
+			@Override
+			public void propertyChange(Node observedNode,
+					ObservableProperty property,
+					Object oldValue,
+					Object newValue) {
+				nodeIndex.stale.set(true);
+			}
+
+			@Override
+			public void parentChange(Node observedNode, Node previousParent, Node newParent) {
+				nodeIndex.stale.set(true);
+			}
+
+			@Override
+			public void listChange(NodeList<?> observedNode, ListChangeType type, int index, Node nodeAddedOrRemoved) {
+				nodeIndex.stale.set(true);
+			}
+
+			@Override
+			public void listReplacement(NodeList<?> observedNode, int index, Node oldNode, Node newNode) {
+				nodeIndex.stale.set(true);
+			}
+		}, Node.ObserverRegistrationMode.SELF_PROPAGATING);
+
+		root.setData(KEY, nodeIndex);
+		return nodeIndex;
+	}
+
+	private void rebuildIfStale() {
+		if (!stale.getAndSet(false)) {
+			return;
+		}
+
+		preOrder.clear();
+		preOrderIndexes.clear();
+		subtreeEnds.clear();
+		byClass.clear();
+		byMethodName.clear();
+
+		root.walk(node -> {
+			preOrderIndexes.put(node, preOrder.size());
+			preOrder.add(node);
+			byClass.put(node.getClass(), node);
+
+			if (node instanceof MethodCallExpr) {
+				byMethodName.put(((MethodCallExpr) node).getNameAsString(), node);
+			}
+		});
+
+		// Children are after their parent: iterating backward, each subtree size is complete when reaching its root
+		int[] subtreeSizes = new int[preOrder.size()];
+		for (int i = preOrder.size() - 1; i >= 0; i--) {
+			subtreeSizes[i]++;
+
+			var optParentIndex = preOrder.get(i).getParentNode().map(preOrderIndexes::get);
+			if (optParentIndex.isPresent()) {
+				subtreeSizes[optParentIndex.get()] += subtreeSizes[i];
+			}
+		}
+		for (var i = 0; i < preOrder.size(); i++) {
+			subtreeEnds.add(i + subtreeSizes[i]);
+		}
+	}
+
+	/**
+	 *
+	 * @param mutator
+	 * @return the {@link Node}s which may be mutated by given {@link IJavaparserNodeMutator}, in the order of
+	 *         `Node.walk`.
+	 */
+	public List<Node> getCandidates(IJavaparserNodeMutator mutator) {
+		rebuildIfStale();
+
+		Set<String> methodNames = mutator.getMethodNames();
+		Set<Class<?>> nodeTypes = mutator.getNodeTypes();
+
+		List<Node> candidates = new ArrayList<>();
+		if (!methodNames.isEmpty()) {
+			methodNames.forEach(methodName -> candidates.addAll(byMethodName.get(methodName)));
+		} else if (nodeTypes.contains(Node.class)) {
+			return new ArrayList<>(preOrder);
+		} else {
+			byClass.keySet()
+					.stream()
+					.filter(clazz -> nodeTypes.stream().anyMatch(nodeType -> nodeType.isAssignableFrom(clazz)))
+					.forEach(clazz -> candidates.addAll(byClass.get(clazz)));
+		}
+
+		// Restore the walking order, as the buckets are merged
+		candidates.sort(Comparator.comparingInt(preOrderIndexes::get));
+		return candidates;
+	}
+
+	/**
+	 * This does not refresh the index: it describes the AST as of the latest call to
+	 * {@link #getCandidates(IJavaparserNodeMutator)}, typically before a mutation.
+	 *
+	 * @param node
+	 * @return the roots of the subtrees walked after given {@link Node} by `Node.walk`: its children, then the next
+	 *         siblings of itself and of its ancestors.
+	 */
+	public List<Node> getPendingRoots(Node node) {
+		List<Node> pendingRoots = new ArrayList<>();
+
+		int index = preOrderIndexes.get(node) + 1;
+		while (index < preOrder.size()) {
+			pendingRoots.add(preOrder.get(index));
+			index = subtreeEnds.get(index);
+		}
+
+		return pendingRoots;
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.github.difflib.DiffUtils;
+import com.github.difflib.patch.AbstractDelta;
+import com.github.difflib.patch.Patch;
+import com.github.difflib.patch.PatchFailedException;
+import com.github.javaparser.Position;
+import com.github.javaparser.Range;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.observer.ObservableProperty;
+import com.github.javaparser.ast.observer.PropagatingAstObserver;
+import com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter;
+
+/**
+ * Prints a mutated AST by splicing only the mutated regions into the original source code: each mutated {@link Node}
+ * is lifted to its closest ancestor having a {@link Range} in the original source code, and only this ancestor is
+ * printed with the {@link LexicalPreservingPrinter}. The cost of printing is then proportional to the mutations,
+ * instead of the whole file.
+ *
+ * The printer is attached to the root {@link Node}, and has to be setup before any mutation.
+ *
+ * @author Benoit Lacelle
+ */
+public final class RangeSplicePrinter {
+	private static final DataKey<RangeSplicePrinter> KEY = new DataKey<>() {
+	};
+
+	final Node root;
+	final String sourceCode;
+
+	// Nodes can not be used in a plain Set, as `Node.equals` is structural
+	final Set<Node> mutated = Collections.newSetFromMap(new IdentityHashMap<>());
+	// Original Nodes moved elsewhere in the AST: their Range does not refer to their current location
+	final Set<Node> relocated = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private RangeSplicePrinter(Node root, String sourceCode) {
+		this.root = root;
+		this.sourceCode = sourceCode;
+	}
+
+	/**
+	 * Registers given root {@link Node}, to record its later mutations.
+	 *
+	 * @param root
+	 * @param sourceCode
+	 *            the source code from which given root {@link Node} has been parsed
+	 * @return the {@link RangeSplicePrinter} associated to given root {@link Node}
+	 */
+	public static RangeSplicePrinter setup(Node root, String sourceCode) {
+		if (root.containsData(KEY)) {
+			throw new IllegalStateException("A RangeSplicePrinter is already registered");
+		}
+
+		var printer = new RangeSplicePrinter(root, sourceCode);
+
+		// Equivalent to SELF_PROPAGATING, which does not forward `listReplacement` (e.g. on `Node.replace`)
+		root.registerForSubtree(new PropagatingAstObserver() {
+			@Override
+			public void concretePropertyChange(Node observedNode,
+					ObservableProperty property,
+					Object oldValue,
+					Object newValue) {
+				if (property == ObservableProperty.COMMENT) {
+					// The comment of a Node is printed by its parent
+					observedNode.getParentNode().ifPresent(printer.mutated::add);
+				}
+				printer.mutated.add(observedNode);
+			}
+
+			@Override
+			public void parentChange(Node observedNode, Node previousParent, Node newParent) {
+				if (previousParent != null && observedNode.hasRange()) {
+					observedNode.walk(printer.relocated::add);
+				}
+			}
+
+			@Override
+			public void concreteListChange(NodeList<?> observedNode,
+					ListChangeType type,
+					int index,
+					Node nodeAddedOrRemoved) {
+				observedNode.getParentNode().ifPresent(printer.mutated::add);
+			}
+
+			@Override
+			public void concreteListReplacement(NodeList<?> observedNode, int index, Node oldNode, Node newNode) {
+				observedNode.getParentNode().ifPresent(printer.mutated::add);
+			}
+		});
+
+		root.setData(KEY, printer);
+		return printer;
+	}
+
+	/**
+	 *
+	 * @param root
+	 * @return the source code from which given root {@link Node} has been parsed, if it has been setup
+	 */
+	public static Optional<String> optSourceCode(Node root) {
+		if (!root.containsData(KEY)) {
+			return Optional.empty();
+		}
+		return Optional.of(root.getData(KEY).sourceCode);
+	}
+
+	/**
+	 *
+	 * @param root
+	 * @return the source code of given root {@link Node}, or empty if it has not been setup, or if the mutations can not
+	 *         be spliced (e.g. the mutated region is the whole {@link CompilationUnit}).
+	 */
+	public static Optional<String> optPrint(Node root) {
+		if (!root.containsData(KEY)) {
+			return Optional.empty();
+		}
+		return root.getData(KEY).optPrint();
+	}
+
+	private Optional<String> optPrint() {
+		List<Node> anchors = new ArrayList<>();
+		Set<Node> anchorsAsSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Node node : mutated) {
+			Optional<Node> optAnchor = optAnchor(node);
+			if (optAnchor.isEmpty()) {
+				// This Node is not attached anymore to the AST: its removal is recorded over its previous parent
+				continue;
+			}
+			var anchor = optAnchor.get();
+			if (anchor == root) {
+				return Optional.empty();
+			}
+			if (anchorsAsSet.add(anchor)) {
+				anchors.add(anchor);
+			}
+		}
+
+		// Keep only the outermost anchors, as an anchor is printed with all its descendants
+		anchors.removeIf(anchor -> anchor.getParentNode().map(p -> hasAncestorIn(p, anchorsAsSet)).orElse(false));
+		anchors.sort(Comparator.comparing(anchor -> anchor.getRange().get().begin));
+
+		int[] lineOffsets = computeLineOffsets(sourceCode);
+		var spliced = new StringBuilder(sourceCode.length());
+		var previousEnd = 0;
+		for (Node anchor : anchors) {
+			Range range = anchor.getRange().get();
+			int begin = toOffset(lineOffsets, range.begin);
+			// Range.end is inclusive
+			int end = toOffset(lineOffsets, range.end) + 1;
+			if (begin < previousEnd || end <= begin || end > sourceCode.length()) {
+				// Inconsistent Ranges: the whole file has to be printed
+				return Optional.empty();
+			}
+
+			var printed = fixUnexpectedChanges(sourceCode.substring(begin, end), LexicalPreservingPrinter.print(anchor));
+			spliced.append(sourceCode, previousEnd, begin).append(printed);
+			previousEnd = end;
+		}
+		spliced.append(sourceCode, previousEnd, sourceCode.length());
+
+		return Optional.of(spliced.toString());
+	}
+
+	/**
+	 *
+	 * @param node
+	 * @return the closest ancestor (or self) which is printed at its original {@link Range}, or empty if given
+	 *         {@link Node} is not attached to the root anymore.
+	 */
+	private Optional<Node> optAnchor(Node node) {
+		var anchor = node;
+		if (anchor instanceof Comment) {
+			// A Comment is printed by the parent of the commented Node
+			Optional<Node> optCommented = ((Comment) anchor).getCommentedNode();
+			if (optCommented.isPresent()) {
+				anchor = optCommented.get();
+				if (anchor == root) {
+					return Optional.of(root);
+				}
+				anchor = anchor.getParentNode().orElse(null);
+			}
+		}
+
+		Node candidate = null;
+		while (anchor != null) {
+			if (candidate == null && anchor.hasRange() && !relocated.contains(anchor) && !(anchor instanceof Comment)) {
+				candidate = anchor;
+			}
+			if (anchor == root) {
+				return Optional.of(candidate == null ? root : candidate);
+			}
+			anchor = anchor.getParentNode().orElse(null);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * The {@link LexicalPreservingPrinter} may change some lines which are not related to the mutations (e.g. it removes
+	 * consecutive EOL). These changes are reverted by diffing only the printed region with its original source code.
+	 *
+	 * @param original
+	 *            the original source code of a printed region
+	 * @param printed
+	 *            the printed region
+	 * @return the printed region, without the unexpected changes from Javaparser
+	 */
+	static String fixUnexpectedChanges(String original, String printed) {
+		if (original.equals(printed)) {
+			return printed;
+		}
+
+		// Splitting on `\n` keeps a `\r` at the end of each line: the line endings are restored by joining on `\n`
+		List<String> originalRows = Arrays.asList(original.split("\n", -1));
+		List<String> printedRows = Arrays.asList(printed.split("\n", -1));
+		Patch<String> diff = DiffUtils.diff(originalRows, printedRows);
+
+		Patch<String> fixedPatch = new Patch<>();
+		for (AbstractDelta<String> delta : diff.getDeltas()) {
+			if (!JavaRefactorer.isJavaparserUnexpectedChange(delta)) {
+				fixedPatch.addDelta(delta);
+			}
+		}
+		if (fixedPatch.getDeltas().size() == diff.getDeltas().size()) {
+			return printed;
+		}
+
+		try {
+			return String.join("\n", fixedPatch.applyTo(originalRows));
+		} catch (PatchFailedException e) {
+			throw new IllegalStateException("Issue applying a patch over a printed region", e);
+		}
+	}
+
+	private static boolean hasAncestorIn(Node node, Set<Node> nodes) {
+		Optional<Node> optAncestor = Optional.of(node);
+		while (optAncestor.isPresent()) {
+			if (nodes.contains(optAncestor.get())) {
+				return true;
+			}
+			optAncestor = optAncestor.get().getParentNode();
+		}
+		return false;
+	}
+
+	// The offset of the first char of each line, given the line terminators considered by JavaParser
+	private static int[] computeLineOffsets(String sourceCode) {
+		List<Integer> offsets = new ArrayList<>();
+		offsets.add(0);
+		for (var i = 0; i < sourceCode.length(); i++) {
+			char c = sourceCode.charAt(i);
+			if (c == '\r' && i + 1 < sourceCode.length() && sourceCode.charAt(i + 1) == '\n') {
+				i++;
+				offsets.add(i + 1);
+			} else if (c == '\r' || c == '\n') {
+				offsets.add(i + 1);
+			}
+		}
+		return offsets.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	// Lines and columns are 1-based, and a tab counts for a single column
+	private static int toOffset(int[] lineOffsets, Position position) {
+		if (position.line < 1 || position.line > lineOffsets.length) {
+			return -1;
+		}
+		return lineOffsets[position.line - 1] + position.column - 1;
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.nodeTypes.NodeWithAnnotations;
+import com.github.javaparser.ast.observer.AstObserverAdapter;
+import com.github.javaparser.ast.observer.ObservableProperty;
+
+import eu.solven.cleanthat.SuppressCleanthat;
+
+/**
+ * Computes once the {@link Node}s which must not be mutated due to {@link SuppressCleanthat}: the {@link Node}s
+ * annotated with {@link SuppressCleanthat}, their descendants, and their ancestors.
+ *
+ * The index is attached to the {@link CompilationUnit}, and is rebuilt lazily only after a change related to
+ * annotations.
+ *
+ * @author Benoit Lacelle
+ */
+public final class SuppressCleanthatIndex {
+	private static final DataKey<SuppressCleanthatIndex> KEY = new DataKey<>() {
+	};
+
+	final Node root;
+
+	// Set to true on any change which may add or remove a SuppressCleanthat
+	final AtomicBoolean stale = new AtomicBoolean(true);
+
+	// Nodes can not be used in a plain Set, as `Node.equals` is structural
+	final Set<Node> suppressed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private SuppressCleanthatIndex(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 *
+	 * @param root
+	 * @return the {@link SuppressCleanthatIndex} associated to given root {@link Node}, creating it if necessary.
+	 */
+	public static SuppressCleanthatIndex getOrMake(Node root) {
+		if (root.containsData(KEY)) {
+			return root.getData(KEY);
+		}
+
+		var suppressionIndex = new SuppressCleanthatIndex(root);
+
+		// SELF_PROPAGATING registers the observer on Nodes added later to the AST
+		root.register(new AstObserverAdapter() {
+			@Override
+			public void propertyChange(Node observedNode,
+					ObservableProperty property,
+					Object oldValue,
+					Object newValue) {
+				if (observedNode instanceof AnnotationExpr || isAnnotationRelated(oldValue)
+						|| isAnnotationRelated(newValue)) {
+					suppressionIndex.stale.set(true);
+				}
+			}
+
+			@Override
+			public void listChange(NodeList<?> observedNode, ListChangeType type, int index, Node nodeAddedOrRemoved) {
+				if (isAnnotationRelated(nodeAddedOrRemoved)) {
+					suppressionIndex.stale.set(true);
+				}
+			}
+
+			@Override
+			public void listReplacement(NodeList<?> observedNode, int index, Node oldNode, Node newNode) {
+				if (isAnnotationRelated(oldNode) || isAnnotationRelated(newNode)) {
+					suppressionIndex.stale.set(true);
+				}
+			}
+		}, Node.ObserverRegistrationMode.SELF_PROPAGATING);
+
+		root.setData(KEY, suppressionIndex);
+		return suppressionIndex;
+	}
+
+	private static boolean isAnnotationRelated(Object value) {
+		if (!(value instanceof Node)) {
+			return false;
+		}
+		var node = (Node) value;
+		return node instanceof AnnotationExpr || node.findFirst(AnnotationExpr.class).isPresent();
+	}
+
+	private static boolean isSuppressing(Node node) {
+		return node instanceof NodeWithAnnotations<?>
+				&& ((NodeWithAnnotations<?>) node).isAnnotationPresent(SuppressCleanthat.class);
+	}
+
+	private void rebuildIfStale() {
+		if (!stale.getAndSet(false)) {
+			return;
+		}
+
+		suppressed.clear();
+
+		root.walk(node -> {
+			if (!isSuppressing(node) || suppressed.contains(node)) {
+				return;
+			}
+
+			// The whole subtree is suppressed
+			node.walk(suppressed::add);
+
+			// Ancestors are suppressed, as mutating them may mutate the suppressed subtree
+			Optional<Node> optParent = node.getParentNode();
+			while (optParent.isPresent() && suppressed.add(optParent.get())) {
+				optParent = optParent.get().getParentNode();
+			}
+		});
+	}
+
+	/**
+	 *
+	 * @param node
+	 * @return true if given {@link Node} must not be mutated due to {@link SuppressCleanthat}
+	 */
+	public boolean isSuppressed(Node node) {
+		rebuildIfStale();
+
+		return suppressed.contains(node);
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.observer.AstObserverAdapter;
+import com.github.javaparser.ast.observer.ObservableProperty;
+import com.github.javaparser.resolution.declarations.ResolvedDeclaration;
+import com.github.javaparser.resolution.types.ResolvedType;
+
+/**
+ * Memoizes the symbol resolutions over a {@link CompilationUnit}, as the same {@link Node}s are resolved by many
+ * mutators. Failed resolutions are memoized too, as they are typically the most expensive ones (e.g. an
+ * `UnsolvedSymbolException` over a 3rd-party type).
+ *
+ * The memo is attached to the {@link CompilationUnit}, and dropped on any change: a change may impact the resolution
+ * of {@link Node}s far from it (e.g. changing the type of a variable changes the type of its usages).
+ * {@link Node}s are typically resolved many times between 2 mutations, while walking the AST.
+ *
+ * @author Benoit Lacelle
+ */
+public final class SymbolResolutionMemo {
+	private static final DataKey<SymbolResolutionMemo> KEY = new DataKey<>() {
+	};
+
+	final Node root;
+
+	// Nodes can not be used in a plain Map, as `Node.equals` is structural
+	final Map<Node, Optional<ResolvedType>> types = new IdentityHashMap<>();
+	final Map<Node, Optional<ResolvedDeclaration>> declarations = new IdentityHashMap<>();
+
+	private SymbolResolutionMemo(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 *
+	 * @param root
+	 * @return the {@link SymbolResolutionMemo} associated to given root {@link Node}, creating it if necessary.
+	 */
+	public static SymbolResolutionMemo getOrMake(Node root) {
+		if (root.containsData(KEY)) {
+			return root.getData(KEY);
+		}
+
+		var memo = new SymbolResolutionMemo(root);
+
+		// SELF_PROPAGATING registers the observer on Nodes added later to the AST
+		root.register(new AstObserverAdapter() {
+			@Override
+			public void propertyChange(Node observedNode,
+					ObservableProperty property,
+					Object oldValue,
+					Object newValue) {
+				memo.invalidate();
+			}
+
+			@Override
+			public void parentChange(Node observedNode, Node previousParent, Node newParent) {
+				memo.invalidate();
+			}
+
+			@Override
+			public void listChange(NodeList<?> observedNode, ListChangeType type, int index, Node nodeAddedOrRemoved) {
+				memo.invalidate();
+			}
+
+			@Override
+			public void listReplacement(NodeList<?> observedNode, int index, Node oldNode, Node newNode) {
+				memo.invalidate();
+			}
+		}, Node.ObserverRegistrationMode.SELF_PROPAGATING);
+
+		root.setData(KEY, memo);
+		return memo;
+	}
+
+	/**
+	 *
+	 * @param node
+	 * @return the {@link SymbolResolutionMemo} of the {@link CompilationUnit} holding given {@link Node}, if any. A
+	 *         {@link Node} not attached to a {@link CompilationUnit} (e.g. a clone) is not memoized.
+	 */
+	public static Optional<SymbolResolutionMemo> optMemo(Node node) {
+		return node.findCompilationUnit().map(SymbolResolutionMemo::getOrMake);
+	}
+
+	private void invalidate() {
+		types.clear();
+		declarations.clear();
+	}
+
+	/**
+	 *
+	 * @param node
+	 * @param resolver
+	 *            called only if given {@link Node} has no memoized type
+	 * @return the memoized type of given {@link Node}, which may be empty if it could not be resolved
+	 */
+	public Optional<ResolvedType> getType(Node node, Supplier<Optional<ResolvedType>> resolver) {
+		return getOrResolve(types, node, resolver);
+	}
+
+	/**
+	 *
+	 * @param node
+	 * @param resolver
+	 *            called only if given {@link Node} has no memoized declaration
+	 * @return the memoized declaration of given {@link Node}, which may be empty if it could not be resolved
+	 */
+	public Optional<ResolvedDeclaration> getDeclaration(Node node, Supplier<Optional<ResolvedDeclaration>> resolver) {
+		return getOrResolve(declarations, node, resolver);
+	}
+
+	private static <T> Optional<T> getOrResolve(Map<Node, Optional<T>> memo,
+			Node node,
+			Supplier<Optional<T>> resolver) {
+		// `computeIfAbsent` is not used, as the resolution may resolve (hence memoize) other Nodes
+		Optional<T> memoized = memo.get(node);
+		if (memoized != null) {
+			return memoized;
+		}
+
+		Optional<T> resolved = resolver.get();
+		memo.put(node, resolved);
+		return resolved;
+	}
+}
@@ -28,6 +28,7 @@ import com.github.javaparser.resolution.types.ResolvedType;
 
 import eu.solven.cleanthat.engine.java.refactorer.AJavaparserNodeMutator;
 import eu.solven.cleanthat.engine.java.refactorer.NodeAndSymbolSolver;
+import eu.solven.cleanthat.engine.java.refactorer.SymbolResolutionMemo;
 
 /**
  * Helps working with {@link MethodCallExpr}
@@ -84,8 +85,17 @@ public class MethodCallExprHelpers {
 		return optResolvedType(optExpr.get());
 	}
 
-	// https://github.com/javaparser/javaparser/issues/1491
 	public static Optional<ResolvedType> optResolvedType(SymbolResolver symbolResolver, Expression expr) {
+		Optional<SymbolResolutionMemo> optMemo = SymbolResolutionMemo.optMemo(expr);
+		if (optMemo.isEmpty()) {
+			return doOptResolvedType(symbolResolver, expr);
+		}
+
+		return optMemo.get().getType(expr, () -> doOptResolvedType(symbolResolver, expr));
+	}
+
+	// https://github.com/javaparser/javaparser/issues/1491
+	private static Optional<ResolvedType> doOptResolvedType(SymbolResolver symbolResolver, Expression expr) {
 		try {
 			// ResolvedType type = expr.getSymbolResolver().calculateType(expr);
 			var type = symbolResolver.calculateType(expr);
@@ -15,7 +15,9 @@
  */
 package eu.solven.cleanthat.engine.java.refactorer.helpers;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,9 +29,16 @@ import com.github.javaparser.resolution.model.SymbolReference;
 import com.github.javaparser.resolution.model.typesystem.LazyType;
 import com.github.javaparser.resolution.model.typesystem.ReferenceTypeImpl;
 import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.symbolsolver.reflectionmodel.ReflectionClassDeclaration;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import eu.solven.cleanthat.engine.java.refactorer.AJavaparserNodeMutator;
+import eu.solven.cleanthat.engine.java.refactorer.SymbolResolutionMemo;
 
 /**
  * Helps working with {@link ResolvedType}
@@ -40,6 +49,15 @@ import eu.solven.cleanthat.engine.java.refactorer.AJavaparserNodeMutator;
 public class ResolvedTypeHelpers {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ResolvedTypeHelpers.class);
 
+	private static final int IS_ASSIGNABLE_BY_CACHE_SIZE = 16 * 1024;
+
+	// The solver is stateless, hence it is shared
+	private static final ReflectionTypeSolver TYPE_SOLVER = new ReflectionTypeSolver(false);
+
+	// Keyed by the qualified className and the description of the ResolvedType
+	private static final Cache<Map.Entry<String, String>, Boolean> IS_ASSIGNABLE_BY =
+			CacheBuilder.newBuilder().maximumSize(IS_ASSIGNABLE_BY_CACHE_SIZE).recordStats().build();
+
 	protected ResolvedTypeHelpers() {
 		// hidden
 	}
@@ -61,6 +79,15 @@ public class ResolvedTypeHelpers {
 	}
 
 	public static Optional<ResolvedType> optResolvedType(Type type) {
+		Optional<SymbolResolutionMemo> optMemo = SymbolResolutionMemo.optMemo(type);
+		if (optMemo.isEmpty()) {
+			return doOptResolvedType(type);
+		}
+
+		return optMemo.get().getType(type, () -> doOptResolvedType(type));
+	}
+
+	private static Optional<ResolvedType> doOptResolvedType(Type type) {
 		try {
 			return Optional.of(type.resolve());
 		} catch (RuntimeException e) {
@@ -104,8 +131,20 @@ public class ResolvedTypeHelpers {
 	 * @return true if `qualifiedClassName` is java.util.Collection and `resolvedType` is java.util.List
 	 */
 	public static boolean isAssignableBy(String qualifiedClassName, ResolvedType resolvedType) {
-		var typeSolver = new ReflectionTypeSolver(false);
-		SymbolReference<ResolvedReferenceTypeDeclaration> optType = typeSolver.tryToSolveType(qualifiedClassName);
+		if (!isCacheable(resolvedType)) {
+			return computeIsAssignableBy(qualifiedClassName, resolvedType);
+		}
+
+		var key = Maps.immutableEntry(qualifiedClassName, resolvedType.describe());
+		try {
+			return IS_ASSIGNABLE_BY.get(key, () -> computeIsAssignableBy(qualifiedClassName, resolvedType));
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			throw new IllegalStateException("Issue with " + key, e.getCause());
+		}
+	}
+
+	private static boolean computeIsAssignableBy(String qualifiedClassName, ResolvedType resolvedType) {
+		SymbolReference<ResolvedReferenceTypeDeclaration> optType = TYPE_SOLVER.tryToSolveType(qualifiedClassName);
 
 		if (!optType.isSolved()) {
 			return false;
@@ -117,6 +156,44 @@ public class ResolvedTypeHelpers {
 		return isAssignableBy(referenceTypeImpl, resolvedType);
 	}
 
+	/**
+	 * A {@link ResolvedType} can be cached by its description only if it is not related to the code being cleaned: a
+	 * class named `com.foo.Bar` may extend different classes in different projects.
+	 * 
+	 * @param resolvedType
+	 * @return true if the assignability to this type depends only on the classpath.
+	 */
+	private static boolean isCacheable(ResolvedType resolvedType) {
+		if (resolvedType.isPrimitive()) {
+			return true;
+		} else if (resolvedType.isArray()) {
+			return isCacheable(resolvedType.asArrayType().getComponentType());
+		} else if (!resolvedType.isReferenceType()) {
+			// e.g. type variables, wildcards or lambda constraints
+			return false;
+		}
+
+		var referenceType = resolvedType.asReferenceType();
+		Optional<ResolvedReferenceTypeDeclaration> optDeclaration = referenceType.getTypeDeclaration();
+		if (optDeclaration.isEmpty() || !isReflectionDeclaration(optDeclaration.get())) {
+			return false;
+		}
+
+		return referenceType.typeParametersValues().stream().allMatch(ResolvedTypeHelpers::isCacheable);
+	}
+
+	private static boolean isReflectionDeclaration(ResolvedReferenceTypeDeclaration declaration) {
+		return ReflectionClassDeclaration.class.getPackageName().equals(declaration.getClass().getPackageName());
+	}
+
+	/**
+	 * 
+	 * @return the hits and misses of the cache behind {@link #isAssignableBy(String, ResolvedType)}
+	 */
+	public static CacheStats getIsAssignableByStats() {
+		return IS_ASSIGNABLE_BY.stats();
+	}
+
 	public static boolean typeIsAssignable(Optional<ResolvedType> optType, String requiredType) {
 		if (optType.isEmpty()) {
 			return false;
@@ -16,15 +16,18 @@
 package eu.solven.cleanthat.engine.java.refactorer.meta;
 
 import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * This indicates provided {@link IMutator}s are to be applied before the annotated {@link IMutator}. Beware of cycles.
+ * This indicates provided {@link IMutator}s are to be applied before the annotated {@link IMutator}: a successful
+ * application of provided {@link IMutator}s may enable the annotated {@link IMutator}. Beware of cycles.
  * 
  * @author Benoit Lacelle
  *
  */
-@Deprecated(since = "This is just for informative purpose, as it is not implemented yet")
+@Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface ApplyBeforeMe {
 
@@ -15,17 +15,28 @@
  */
 package eu.solven.cleanthat.engine.java.refactorer.meta;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import com.github.javaparser.ast.Node;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 
+import eu.solven.cleanthat.engine.java.refactorer.JavaRefactorerProperties;
 import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.CompositeWalkingMutator;
 
 /**
  * This mutator make it easy to composite multiple {@link IJavaparserAstMutator}s in a single one.
  * 
+ * By default, the underlying mutators walk the AST one after the other. With
+ * {@link JavaRefactorerProperties#isFusedWalk()}, consecutive {@link IJavaparserNodeMutator}s (including the ones of
+ * nested composites) walk the AST together, through a {@link FusedJavaparserMutator}: each {@link Node} is offered to
+ * each of them, in the configured order. `JavaRefactorer` unrolls the configured composites, and fuses their mutators
+ * given the same property.
+ * 
  * The extended classes should generally implement a constructor taking a JavaVersions as single argument.
  * 
  * @author Benoit Lacelle
@@ -36,13 +47,82 @@ import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.CompositeWa
 @SuppressWarnings("PMD.GenericsNaming")
 public class CompositeJavaparserMutator extends CompositeWalkingMutator<Node>
 		implements IJavaparserAstMutator, IReApplyUntilNoop {
+	private final boolean singleWalk;
+
+	// Lazy, as the underlyings are not available while constructing this
+	private final Supplier<List<IJavaparserAstMutator>> singleWalkMutators =
+			Suppliers.memoize(() -> FusedJavaparserMutator.fuse(unnest()));
 
 	public CompositeJavaparserMutator() {
 		this(Arrays.asList());
 	}
 
 	public CompositeJavaparserMutator(List<IJavaparserAstMutator> mutators) {
+		this(mutators, false);
+	}
+
+	public CompositeJavaparserMutator(List<IJavaparserAstMutator> mutators, JavaRefactorerProperties properties) {
+		this(mutators, properties.isFusedWalk());
+	}
+
+	protected CompositeJavaparserMutator(List<IJavaparserAstMutator> mutators, boolean singleWalk) {
 		super(ImmutableList.copyOf(mutators));
+
+		this.singleWalk = singleWalk;
+	}
+
+	/**
+	 * 
+	 * @return true if consecutive {@link IJavaparserNodeMutator}s should walk the AST together
+	 */
+	protected boolean isSingleWalk() {
+		return singleWalk;
+	}
+
+	@Override
+	public Optional<Node> walkAst(Node pre) {
+		if (isSingleWalk()) {
+			return walkAst(getSingleWalkMutators(), pre);
+		} else {
+			return super.walkAst(pre);
+		}
+	}
+
+	/**
+	 * 
+	 * @return the mutators walking the AST when {@link #isSingleWalk()}: the mutators overriding the walk of the whole
+	 *         AST (e.g. `UseExplicitTypes`) are not fused, and walk the AST on their own.
+	 */
+	public List<IJavaparserAstMutator> getSingleWalkMutators() {
+		return singleWalkMutators.get();
+	}
+
+	/**
+	 * 
+	 * @return the leaf mutators, in the order they would walk the AST
+	 */
+	private List<IJavaparserAstMutator> unnest() {
+		List<IJavaparserAstMutator> leaves = new ArrayList<>();
+
+		getUnderlyings().forEach(mutator -> {
+			if (mutator instanceof CompositeJavaparserMutator && !overridesWalkAst(mutator)) {
+				// Nested composites walk the AST one mutator after the other
+				leaves.addAll(((CompositeJavaparserMutator) mutator).unnest());
+			} else {
+				leaves.add((IJavaparserAstMutator) mutator);
+			}
+		});
+
+		return leaves;
+	}
+
+	private static boolean overridesWalkAst(Object composite) {
+		try {
+			return composite.getClass().getMethod("walkAst", Node.class).getDeclaringClass()
+					!= CompositeJavaparserMutator.class;
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Issue looking for walkAst over " + composite.getClass(), e);
+		}
 	}
 
 }
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer.meta;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.javaparser.ast.Node;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.AtomicLongMap;
+
+import eu.solven.cleanthat.engine.java.refactorer.AJavaparserAstMutator;
+import eu.solven.cleanthat.engine.java.refactorer.MutatorsMetrics;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.CompositeMutator;
+import eu.solven.cleanthat.formatter.TimeBudget;
+
+/**
+ * Applies multiple {@link IJavaparserNodeMutator} with a single walk of the AST: each {@link Node} is offered to each
+ * {@link IJavaparserNodeMutator}, in the configured order. On a mutation, only the mutated subtree is walked again.
+ *
+ * This differs from applying each {@link IJavaparserNodeMutator} one after the other, as the mutations are interleaved.
+ * 
+ * Only the mutators which walk is fully described by {@link IJavaparserNodeMutator#walkNode(Node)} are fused (see
+ * {@link #isFusable(IJavaparserAstMutator)}).
+ * 
+ * The mutations and the time spent are attributed to each underlying {@link IJavaparserNodeMutator} (see
+ * {@link #getUnderlyingMetrics()}).
+ *
+ * @author Benoit Lacelle
+ */
+public class FusedJavaparserMutator extends CompositeMutator<IJavaparserNodeMutator>
+		implements IJavaparserAstMutator, ICountUnderlyingMetrics {
+	private static final Logger LOGGER = LoggerFactory.getLogger(FusedJavaparserMutator.class);
+
+	// Prevent infinite loops, e.g. if 2 mutators revert the changes of each other
+	private static final int MAX_REWALK = 10;
+
+	// The counters of each underlying mutator, by index in the underlyings
+	private final List<AtomicLongMap<String>> underlyingsCounters;
+
+	public FusedJavaparserMutator(List<? extends IJavaparserNodeMutator> mutators) {
+		super(ImmutableList.copyOf(mutators));
+
+		this.underlyingsCounters = mutators.stream()
+				.map(m -> AtomicLongMap.<String>create())
+				.collect(ImmutableList.toImmutableList());
+	}
+
+	@Override
+	public Map<IMutator, Map<String, Long>> getUnderlyingMetrics() {
+		Map<IMutator, Map<String, Long>> underlyingMetrics = new IdentityHashMap<>();
+
+		var underlyings = getUnderlyings();
+		for (var i = 0; i < underlyings.size(); i++) {
+			var counters = underlyingsCounters.get(i);
+			if (counters.isEmpty()) {
+				continue;
+			}
+
+			// The same mutator may be fused multiple times
+			var mutatorCounters = underlyingMetrics.computeIfAbsent(underlyings.get(i), k -> new TreeMap<>());
+			counters.asMap().forEach((key, value) -> mutatorCounters.merge(key, value, Long::sum));
+		}
+
+		return underlyingMetrics;
+	}
+
+	@Override
+	public Optional<Node> walkAst(Node ast) {
+		var nbUnderlyings = getUnderlyings().size();
+		// Accumulated locally, as a fused walk may offer many nodes to each underlying mutator
+		var underlyingsNanos = new long[nbUnderlyings];
+		var underlyingsMutated = new boolean[nbUnderlyings];
+
+		try {
+			return walkAst(ast, underlyingsNanos, underlyingsMutated);
+		} finally {
+			for (var i = 0; i < nbUnderlyings; i++) {
+				var counters = underlyingsCounters.get(i);
+				counters.incrementAndGet(MutatorsMetrics.KEY_NB_WALKS);
+				counters.addAndGet(MutatorsMetrics.KEY_WALL_TIME_NANOS, underlyingsNanos[i]);
+				if (underlyingsMutated[i]) {
+					counters.incrementAndGet(MutatorsMetrics.KEY_NB_MUTATIONS);
+				}
+			}
+		}
+	}
+
+	private Optional<Node> walkAst(Node ast, long[] underlyingsNanos, boolean[] underlyingsMutated) {
+		var astHasMutated = false;
+
+		// Each subtree is associated to the number of times it has been re-walked
+		Deque<Map.Entry<Node, Integer>> toWalk = new ArrayDeque<>();
+		toWalk.add(Map.entry(ast, 0));
+
+		while (!toWalk.isEmpty()) {
+			var subTreeAndDepth = toWalk.poll();
+			var subTree = subTreeAndDepth.getKey();
+			int depth = subTreeAndDepth.getValue();
+
+			// Collect the nodes before mutating them, as mutations would break the iteration
+			List<Node> nodes = new ArrayList<>();
+			subTree.walk(nodes::add);
+
+			// The subtrees which will be walked again: their nodes are skipped from current walk
+			Set<Node> requeued = Collections.newSetFromMap(new IdentityHashMap<>());
+
+			for (var node : nodes) {
+				if (TimeBudget.checkpoint()) {
+					LOGGER.debug("We stop walking as the budget is exceeded");
+					return astHasMutated ? Optional.of(ast) : Optional.empty();
+				} else if (!requeued.isEmpty() && isInAny(node, requeued)) {
+					continue;
+				}
+
+				Optional<Node> optMutatedSubTree = walkNode(ast, node, underlyingsNanos, underlyingsMutated);
+
+				if (optMutatedSubTree.isPresent()) {
+					astHasMutated = true;
+
+					var mutatedSubTree = optMutatedSubTree.get();
+					if (depth + 1 >= MAX_REWALK) {
+						LOGGER.warn("We stop re-walking `{}` after {} walks", mutatedSubTree, depth + 1);
+					} else {
+						toWalk.add(Map.entry(mutatedSubTree, depth + 1));
+						requeued.add(mutatedSubTree);
+					}
+				}
+			}
+		}
+
+		if (astHasMutated) {
+			return Optional.of(ast);
+		} else {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 *
+	 * @param ast
+	 * @param node
+	 * @param underlyingsNanos
+	 *            the time spent by each underlying mutator, incremented by this walk
+	 * @param underlyingsMutated
+	 *            set to true for each underlying mutator which mutated given node
+	 * @return the subtree which has to be walked again, as it holds a mutation
+	 */
+	protected Optional<Node> walkNode(Node ast, Node node, long[] underlyingsNanos, boolean[] underlyingsMutated) {
+		if (isDetached(node)) {
+			// e.g. an ancestor has been replaced by a previous mutation
+			return Optional.empty();
+		}
+
+		// The ancestors are collected before the mutation, as the node may be detached by the mutation
+		List<Node> ancestors = null;
+
+		var nodeHasMutated = false;
+		var underlyings = getUnderlyings();
+		for (var i = 0; i < underlyings.size(); i++) {
+			var mutator = underlyings.get(i);
+			if (!mutator.isInterestedIn(node)) {
+				continue;
+			} else if (ancestors == null) {
+				ancestors = getAncestors(node);
+			}
+
+			var start = System.nanoTime();
+			var mutatorHasMutated = mutator.walkNode(node);
+			underlyingsNanos[i] += System.nanoTime() - start;
+
+			if (mutatorHasMutated) {
+				nodeHasMutated = true;
+				underlyingsMutated[i] = true;
+
+				if (isDetached(node)) {
+					// Following mutators would skip this node anyway
+					break;
+				}
+			}
+		}
+
+		if (!nodeHasMutated) {
+			return Optional.empty();
+		} else if (!isDetached(node)) {
+			// The node has been mutated in-place
+			return Optional.of(node);
+		}
+
+		// The node, or one of its ancestors, has been replaced: the replacement is a child of the closest attached
+		// ancestor. Only this subtree is walked again, not the whole AST.
+		for (var ancestor : ancestors) {
+			if (!isDetached(ancestor)) {
+				return Optional.of(ancestor);
+			}
+		}
+
+		// Unexpected, as the root of the AST can not be replaced
+		return Optional.of(ast);
+	}
+
+	private static List<Node> getAncestors(Node node) {
+		List<Node> ancestors = new ArrayList<>();
+
+		Optional<Node> optParent = node.getParentNode();
+		while (optParent.isPresent()) {
+			ancestors.add(optParent.get());
+			optParent = optParent.get().getParentNode();
+		}
+
+		return ancestors;
+	}
+
+	private static boolean isDetached(Node node) {
+		return node.findCompilationUnit().isEmpty();
+	}
+
+	private static boolean isInAny(Node node, Set<Node> subTrees) {
+		Optional<Node> optCurrent = Optional.of(node);
+		while (optCurrent.isPresent()) {
+			if (subTrees.contains(optCurrent.get())) {
+				return true;
+			}
+			optCurrent = optCurrent.get().getParentNode();
+		}
+		return false;
+	}
+
+	/**
+	 * 
+	 * @param mutator
+	 * @return true if given mutator is an {@link IJavaparserNodeMutator} which does not override the walk of the whole
+	 *         AST (e.g. to check or complete the AST after the walk, like `UseExplicitTypes` or `JUnit4ToJUnit5`).
+	 */
+	public static boolean isFusable(IJavaparserAstMutator mutator) {
+		return mutator instanceof IJavaparserNodeMutator && !overridesAstWalk(mutator);
+	}
+
+	/**
+	 * 
+	 * @param mutator
+	 * @return true if given mutator does not walk the AST only through {@link AJavaparserAstMutator#walkAst(Node)}.
+	 */
+	public static boolean overridesAstWalk(IJavaparserAstMutator mutator) {
+		return overridesWalk(mutator.getClass(), "walkAst") || overridesWalk(mutator.getClass(), "walkAstHasChanged");
+	}
+
+	private static boolean overridesWalk(Class<?> mutatorClass, String methodName) {
+		try {
+			return mutatorClass.getMethod(methodName, Node.class).getDeclaringClass() != AJavaparserAstMutator.class;
+		} catch (NoSuchMethodException e) {
+			// Only the generic method from IWalkingMutator
+			return false;
+		}
+	}
+
+	/**
+	 *
+	 * @param mutators
+	 * @return an equivalent {@link List} of {@link IJavaparserAstMutator}, where consecutive fusable
+	 *         {@link IJavaparserNodeMutator} are fused into a single {@link FusedJavaparserMutator}.
+	 */
+	public static List<IJavaparserAstMutator> fuse(List<? extends IJavaparserAstMutator> mutators) {
+		List<IJavaparserAstMutator> fused = new ArrayList<>();
+
+		List<IJavaparserNodeMutator> pendingNodeMutators = new ArrayList<>();
+		for (IJavaparserAstMutator mutator : mutators) {
+			if (isFusable(mutator)) {
+				pendingNodeMutators.add((IJavaparserNodeMutator) mutator);
+			} else {
+				flushNodeMutators(fused, pendingNodeMutators);
+				fused.add(mutator);
+			}
+		}
+		flushNodeMutators(fused, pendingNodeMutators);
+
+		return fused;
+	}
+
+	private static void flushNodeMutators(List<IJavaparserAstMutator> fused,
+			List<IJavaparserNodeMutator> pendingNodeMutators) {
+		if (pendingNodeMutators.isEmpty()) {
+			return;
+		}
+
+		fused.add(new FusedJavaparserMutator(pendingNodeMutators));
+		pendingNodeMutators.clear();
+	}
+}
@@ -15,7 +15,10 @@
  */
 package eu.solven.cleanthat.engine.java.refactorer.meta;
 
+import java.util.Set;
+
 import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.MethodCallExpr;
 
 /**
  * An {@link IMutator} which can edit a JavaParser {@link Node}
@@ -24,4 +27,46 @@ import com.github.javaparser.ast.Node;
  */
 public interface IJavaparserNodeMutator extends IMutator {
 
+	/**
+	 * Process a single {@link Node}, without recursion over its children. This enables a single walk of the AST to
+	 * offer each {@link Node} to multiple {@link IJavaparserNodeMutator}.
+	 * 
+	 * @param node
+	 *            the {@link Node} to process.
+	 * @return true if the {@link Node} (or one of its ancestors or descendants) has been mutated.
+	 */
+	boolean walkNode(Node node);
+
+	/**
+	 * Enables skipping irrelevant {@link Node}s without calling this {@link IJavaparserNodeMutator}. It may refer to
+	 * {@link Node} classes or to {@link Node} interfaces (e.g. `NodeWithModifiers`).
+	 * 
+	 * @return the types of {@link Node} this mutator may trigger on.
+	 */
+	default Set<Class<?>> getNodeTypes() {
+		return Set.of(Node.class);
+	}
+
+	/**
+	 * 
+	 * @return if not empty, this mutator triggers only on {@link MethodCallExpr} with one of these names.
+	 */
+	default Set<String> getMethodNames() {
+		return Set.of();
+	}
+
+	/**
+	 * 
+	 * @param node
+	 * @return true if this mutator may trigger over given {@link Node}, given {@link #getNodeTypes()} and
+	 *         {@link #getMethodNames()}.
+	 */
+	default boolean isInterestedIn(Node node) {
+		Set<String> methodNames = getMethodNames();
+		if (!methodNames.isEmpty()) {
+			return node instanceof MethodCallExpr && methodNames.contains(((MethodCallExpr) node).getNameAsString());
+		}
+
+		return getNodeTypes().stream().anyMatch(nodeType -> nodeType.isInstance(node));
+	}
 }
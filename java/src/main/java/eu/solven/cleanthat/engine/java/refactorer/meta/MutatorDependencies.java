@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer.meta;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Computes the dependencies between {@link IMutator}s, given {@link ApplyAfterMe}, {@link ApplyBeforeMe},
+ * {@link RepeatOnSuccess} and {@link IReApplyUntilNoop}.
+ *
+ * @author Benoit Lacelle
+ */
+public final class MutatorDependencies {
+	private MutatorDependencies() {
+		// hidden
+	}
+
+	/**
+	 *
+	 * @param mutatorClass
+	 * @param candidateClasses
+	 *            the classes of the {@link IMutator}s which may be enabled
+	 * @return the classes of the {@link IMutator}s which may trigger after a successful application of given
+	 *         {@link IMutator} class.
+	 */
+	public static Set<Class<?>> getEnabledClasses(Class<?> mutatorClass, Collection<Class<?>> candidateClasses) {
+		Set<Class<?>> enabled = new LinkedHashSet<>();
+
+		if (mutatorClass.isAnnotationPresent(RepeatOnSuccess.class)
+				|| IReApplyUntilNoop.class.isAssignableFrom(mutatorClass)) {
+			enabled.add(mutatorClass);
+		}
+
+		var applyAfterMe = mutatorClass.getAnnotation(ApplyAfterMe.class);
+		if (applyAfterMe != null) {
+			enabled.addAll(Set.of(applyAfterMe.value()));
+		}
+
+		// ApplyBeforeMe is the reverse relation
+		candidateClasses.forEach(candidateClass -> {
+			var applyBeforeMe = candidateClass.getAnnotation(ApplyBeforeMe.class);
+			if (applyBeforeMe != null && Set.of(applyBeforeMe.value()).contains(mutatorClass)) {
+				enabled.add(candidateClass);
+			}
+		});
+
+		return enabled;
+	}
+}
@@ -16,20 +16,21 @@
 package eu.solven.cleanthat.engine.java.refactorer.meta;
 
 import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.stmt.Statement;
 
 /**
- * This indicates given {@link IMutator} should be applied on the same node if it succeeded. Some {@link IMutator} can
- * typically triggers multiple times, e.g. when it applies on {@link Statement} of a {@link BlockStmt}.
+ * This indicates given {@link IMutator} should be applied again if it succeeded. Some {@link IMutator} can typically
+ * triggers multiple times, e.g. when it applies on {@link Statement} of a {@link BlockStmt}.
  * 
  * @author Benoit Lacelle
  *
  */
-@Deprecated(
-		since = "This is just for informative purpose, as it is not implemented yet. Rather implements `IReApplyUntilNoop`")
+@Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface RepeatOnSuccess {
 
@@ -49,6 +49,16 @@ public abstract class AUseXIsEmpty extends AJavaparserExprMutator {
 
 	protected abstract Set<Class<?>> getCompatibleTypes();
 
+	@Override
+	public Set<String> getTriggerTokens() {
+		return Set.of(getSizeMethod());
+	}
+
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(BinaryExpr.class);
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		Optional<Expression> optLengthScope = checkCallSizeAndCompareWith0(getSizeMethod(), expr);
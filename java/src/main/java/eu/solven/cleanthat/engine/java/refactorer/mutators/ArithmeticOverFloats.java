@@ -68,6 +68,11 @@ public class ArithmeticOverFloats extends AJavaparserExprMutator {
 		return ImmutableSet.of("Primitive");
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(BinaryExpr.class);
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isBinaryExpr()) {
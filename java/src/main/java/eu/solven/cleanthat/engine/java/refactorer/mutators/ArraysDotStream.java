@@ -79,6 +79,11 @@ public class ArraysDotStream extends AJavaparserNodeMutator {
 		return "https://jsparrow.github.io/rules/use-arrays-stream.html";
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of(METHOD_STREAM);
+	}
+
 	// TODO Lack of checking for Stream type
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
@@ -75,6 +75,11 @@ public class AvoidInlineConditionals extends AJavaparserNodeMutator {
 		return "https://checkstyle.sourceforge.io/config_coding.html#AvoidInlineConditionals";
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(ConditionalExpr.class);
+	}
+
 	// TODO Lack of checking for Stream type
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
@@ -73,6 +73,11 @@ public class CastMathOperandsBeforeAssignement extends AJavaparserExprMutator {
 		return ImmutableSet.of("Primitive");
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(BinaryExpr.class);
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isBinaryExpr()) {
@@ -67,6 +67,16 @@ public class ComparisonWithNaN extends AJavaparserNodeMutator {
 		return "https://pmd.github.io/latest/pmd_rules_java_errorprone.html#comparisonwithnan";
 	}
 
+	@Override
+	public Set<String> getTriggerTokens() {
+		return Set.of("NaN");
+	}
+
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(BinaryExpr.class);
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
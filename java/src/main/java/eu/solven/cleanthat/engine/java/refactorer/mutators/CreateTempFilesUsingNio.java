@@ -77,6 +77,11 @@ public class CreateTempFilesUsingNio extends AJavaparserNodeMutator {
 		return "CreateTempFilesUsingNio";
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("createTempFile");
+	}
+
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
 		// ResolvedMethodDeclaration test;
@@ -84,6 +84,11 @@ public class EmptyControlStatement extends AJavaparserNodeMutator {
 		return "https://jsparrow.github.io/rules/remove-empty-statement.html";
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(BlockStmt.class);
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
@@ -61,6 +61,11 @@ public class EnumsWithoutEquals extends AJavaparserNodeMutator {
 		return "https://jsparrow.github.io/rules/enums-without-equals.html";
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("equals");
+	}
+
 	// https://stackoverflow.com/questions/55309460/how-to-replace-expression-by-string-in-javaparser-ast
 	@SuppressWarnings("PMD.CognitiveComplexity")
 	@Override
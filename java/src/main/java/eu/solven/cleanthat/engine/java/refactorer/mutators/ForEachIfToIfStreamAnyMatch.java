@@ -68,6 +68,11 @@ public class ForEachIfToIfStreamAnyMatch extends AJavaparserStmtMutator {
 		return "https://jsparrow.github.io/rules/enhanced-for-loop-to-stream-any-match.html";
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(ForEachStmt.class);
+	}
+
 	@Override
 	protected boolean processStatement(NodeAndSymbolSolver<Statement> stmt) {
 		if (!stmt.getNode().isForEachStmt()) {
@@ -22,6 +22,7 @@ import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.LambdaExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ForEachStmt;
 import com.github.javaparser.ast.stmt.Statement;
 import com.github.javaparser.resolution.types.ResolvedType;
 import com.google.common.collect.ImmutableSet;
@@ -68,6 +69,11 @@ public class ForEachToIterableForEach extends AJavaparserStmtMutator {
 		return Set.of("EnhancedForLoopToForEach");
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(ForEachStmt.class);
+	}
+
 	@Override
 	protected boolean processStatement(NodeAndSymbolSolver<Statement> stmt) {
 		if (!stmt.getNode().isForEachStmt()) {
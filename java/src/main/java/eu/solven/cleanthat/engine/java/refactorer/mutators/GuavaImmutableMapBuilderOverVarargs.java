@@ -63,6 +63,11 @@ public class GuavaImmutableMapBuilderOverVarargs extends AJavaparserExprMutator
 		return ImmutableSet.of(ICleanthatStepParametersProperties.GUAVA, "Varargs");
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("of");
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isMethodCallExpr()) {
@@ -98,7 +103,7 @@ public class GuavaImmutableMapBuilderOverVarargs extends AJavaparserExprMutator
 			// https://github.com/google/guava/issues/883
 			// https://github.com/google/guava/issues/1166
 			// https://github.com/javaparser/javaparser/issues/2135#issuecomment-1094295844
-			TypeSolver typeSolver = JavaRefactorer.makeDefaultTypeSolver(true);
+			TypeSolver typeSolver = JavaRefactorer.getSharedTypeSolver();
 			JavaParserFacade jpf = JavaParserFacade.get(typeSolver);
 			MethodUsage methodUsage = jpf.solveMethodAsUsage(methodCall);
 			List<ResolvedType> types = methodUsage.getParamTypes();
@@ -51,6 +51,11 @@ public class GuavaInlineStringsRepeat extends AJavaparserExprMutator {
 		return Optional.of("InlineMeInliner");
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("repeat");
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isMethodCallExpr()) {
@@ -21,6 +21,7 @@ import java.util.Set;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.BinaryExpr.Operator;
+import com.github.javaparser.ast.expr.BinaryExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
@@ -55,6 +56,16 @@ public class GuavaStringsIsNullOrEmpty extends AJavaparserExprMutator {
 		return "3.0";
 	}
 
+	@Override
+	public Set<String> getTriggerTokens() {
+		return Set.of("isEmpty");
+	}
+
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(BinaryExpr.class);
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isBinaryExpr()) {
@@ -117,6 +117,16 @@ public class JUnit4ToJUnit5 extends AJavaparserNodeMutator implements IDisabledM
 		return transformed.get();
 	}
 
+	@Override
+	public Set<String> getTriggerTokens() {
+		return Set.of("org.junit");
+	}
+
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(AnnotationExpr.class, MethodCallExpr.class);
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
@@ -86,6 +86,16 @@ public class LiteralsFirstInComparisons extends AJavaparserNodeMutator implement
 		return true;
 	}
 
+	@Override
+	public Set<String> getTriggerTokens() {
+		return Set.of(METHOD_EQUALS, "contentEquals");
+	}
+
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(MethodCallExpr.class);
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
@@ -83,6 +83,11 @@ public class LocalVariableTypeInference extends AJavaparserNodeMutator {
 		return "https://jsparrow.github.io/rules/local-variable-type-inference.html";
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(VariableDeclarationExpr.class);
+	}
+
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
 		if (!(node.getNode() instanceof VariableDeclarationExpr)) {
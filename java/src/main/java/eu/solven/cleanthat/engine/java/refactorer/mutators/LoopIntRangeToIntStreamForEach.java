@@ -31,6 +31,7 @@ import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.UnaryExpr;
 import com.github.javaparser.ast.expr.VariableDeclarationExpr;
 import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
 import com.github.javaparser.ast.stmt.Statement;
 import com.google.common.collect.ImmutableSet;
 
@@ -66,6 +67,11 @@ public class LoopIntRangeToIntStreamForEach extends AJavaparserStmtMutator {
 		return ImmutableSet.of("Primitive", "Loop", "Stream");
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(ForStmt.class);
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processStatement(NodeAndSymbolSolver<Statement> stmt) {
@@ -72,6 +72,11 @@ public class NullCheckToOptionalOfNullable extends AJavaparserStmtMutator {
 		return ImmutableSet.of("Optional");
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(IfStmt.class);
+	}
+
 	@Override
 	protected boolean processStatement(NodeAndSymbolSolver<Statement> stmt) {
 		if (!stmt.getNode().isIfStmt()) {
@@ -55,6 +55,11 @@ public class ObjectEqualsForPrimitives extends AJavaparserExprMutator {
 		return Optional.of("ObjectEqualsForPrimitives");
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("equals");
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isMethodCallExpr()) {
@@ -61,6 +61,11 @@ public class ObjectsHashCodePrimitive extends AJavaparserExprMutator {
 		return Optional.of("ObjectsHashCodePrimitive");
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("hashCode");
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isMethodCallExpr()) {
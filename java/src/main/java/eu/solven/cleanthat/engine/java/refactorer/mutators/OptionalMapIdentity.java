@@ -48,6 +48,11 @@ public class OptionalMapIdentity extends AJavaparserExprMutator {
 		return Optional.class;
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("map");
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isMethodCallExpr()) {
@@ -63,6 +63,11 @@ public class OptionalNotEmpty extends AJavaparserExprMutator {
 		return ImmutableSet.of(ID_NOTEMPTY, ID_ISPRESENT);
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of(METHOD_IS_EMPTY, METHOD_IS_PRESENT);
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
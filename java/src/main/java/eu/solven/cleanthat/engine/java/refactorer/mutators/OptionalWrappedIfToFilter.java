@@ -66,6 +66,11 @@ public class OptionalWrappedIfToFilter extends AJavaparserExprMutator implements
 		return Optional.class;
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return getEligibleForUnwrappedFilter();
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
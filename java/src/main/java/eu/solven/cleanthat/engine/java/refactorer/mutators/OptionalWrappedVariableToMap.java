@@ -71,6 +71,11 @@ public class OptionalWrappedVariableToMap extends AJavaparserExprMutator impleme
 		return Optional.class;
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return getEligibleForUnwrappedMap();
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
@@ -21,6 +21,7 @@ import java.util.Set;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.resolution.types.ResolvedPrimitiveType;
 import com.github.javaparser.resolution.types.ResolvedType;
@@ -64,6 +65,11 @@ public class PrimitiveWrapperInstantiation extends AJavaparserExprMutator {
 		return "https://pmd.github.io/latest/pmd_rules_java_bestpractices.html#primitivewrapperinstantiation";
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(ObjectCreationExpr.class);
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isObjectCreationExpr()) {
@@ -65,6 +65,11 @@ public class RedundantLogicalComplementsInStream extends AJavaparserExprMutator
 		return "https://jsparrow.github.io/rules/enhanced-for-loop-to-stream-any-match.html";
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("anyMatch");
+	}
+
 	@SuppressWarnings("PMD.NPathComplexity")
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
@@ -56,6 +56,11 @@ public class RemoveAllToClearCollection extends AJavaparserExprMutator {
 		return "https://spotbugs.readthedocs.io/en/stable/bugDescriptions.html#dmi-using-removeall-to-clear-collection";
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("removeAll");
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
@@ -65,6 +65,11 @@ public class RemoveExplicitCallToSuper extends AJavaparserNodeMutator {
 		return IS_PRODUCTION_READY;
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(ConstructorDeclaration.class);
+	}
+
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
 		if (!(node.getNode() instanceof ConstructorDeclaration)) {
@@ -65,6 +65,11 @@ public class SimplifyBooleanExpression extends AJavaparserExprMutator {
 		return IS_PRODUCTION_READY;
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(UnaryExpr.class);
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isUnaryExpr()) {
@@ -72,6 +72,16 @@ public class SimplifyStartsWith extends AJavaparserExprMutator {
 		return IS_PRODUCTION_READY;
 	}
 
+	@Override
+	public Set<String> getTriggerTokens() {
+		return Set.of("startsWith");
+	}
+
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(BinaryExpr.class);
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isBinaryExpr()) {
@@ -64,6 +64,11 @@ public class StreamAnyMatch extends AJavaparserNodeMutator {
 		return Optional.of("RSPEC-4034");
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of(METHOD_IS_EMPTY, METHOD_IS_PRESENT);
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
@@ -63,6 +63,11 @@ public class StreamFlatMapStreamToFlatMap extends AJavaparserExprMutator impleme
 		return "https://jsparrow.github.io/rules/flat-map-instead-of-nested-loops.html";
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("flatMap");
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		var optFlatMapExpr = MethodCallExprHelpers.match(expr, Stream.class, "flatMap", Expression::isLambdaExpr);
@@ -83,6 +83,11 @@ public class StreamForEachNestingForLoopToFlatMap extends AJavaparserExprMutator
 		return "https://jsparrow.github.io/rules/flat-map-instead-of-nested-loops.html";
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("forEach");
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		Optional<MethodCallExpr> optMethodCall =
@@ -73,6 +73,16 @@ public class StringIndexOfToContains extends AJavaparserExprMutator {
 		return String.class;
 	}
 
+	@Override
+	public Set<String> getTriggerTokens() {
+		return Set.of("indexOf");
+	}
+
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(BinaryExpr.class);
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isBinaryExpr()) {
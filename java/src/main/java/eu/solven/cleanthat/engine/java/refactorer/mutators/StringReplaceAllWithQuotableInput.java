@@ -81,6 +81,11 @@ public class StringReplaceAllWithQuotableInput extends AJavaparserExprMutator {
 		return Optional.of("RSPEC-5361");
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("replaceAll");
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
@@ -70,6 +70,11 @@ public class StringToString extends AJavaparserExprMutator {
 		return "https://jsparrow.github.io/rules/remove-to-string-on-string.html";
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of(METHOD_TO_STRING);
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isMethodCallExpr()) {
@@ -48,6 +48,11 @@ public class ThreadRunToThreadStart extends AJavaparserExprMutator {
 		return ImmutableSet.of("Thread");
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("run");
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isMethodCallExpr()) {
@@ -82,6 +82,11 @@ public class UnnecessaryBoxing extends AJavaparserNodeMutator {
 		return Optional.of("RSPEC-1158");
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("toString");
+	}
+
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> nodeAndSymbolSolver) {
 		var transformed = new AtomicBoolean();
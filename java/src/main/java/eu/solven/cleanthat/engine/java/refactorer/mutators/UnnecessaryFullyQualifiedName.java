@@ -89,6 +89,11 @@ public class UnnecessaryFullyQualifiedName extends AJavaparserNodeMutator {
 		}
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(NodeWithType.class);
+	}
+
 	@SuppressWarnings({ "PMD.CognitiveComplexity", "PMD.NPathComplexity" })
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> nodeAndContext) {
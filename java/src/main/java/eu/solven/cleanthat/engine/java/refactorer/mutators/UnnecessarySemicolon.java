@@ -65,6 +65,11 @@ public class UnnecessarySemicolon extends AJavaparserNodeMutator {
 		return Optional.of("RSPEC-2959");
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(Statement.class);
+	}
+
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
 		if (node.getNode() instanceof Statement) {
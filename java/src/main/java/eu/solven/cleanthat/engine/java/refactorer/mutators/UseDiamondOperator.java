@@ -72,6 +72,11 @@ public class UseDiamondOperator extends AJavaparserNodeMutator {
 		return "https://jsparrow.github.io/rules/diamond-operator.html";
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(NodeWithTypeArguments.class);
+	}
+
 	// NodeWithTypeArguments
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> nodeAndSolver) {
@@ -123,6 +123,11 @@ public class UseExplicitTypes extends AJavaparserNodeMutator {
 		}
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(VariableDeclarationExpr.class);
+	}
+
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
 		CURRENT_CONTEXT.set(node);
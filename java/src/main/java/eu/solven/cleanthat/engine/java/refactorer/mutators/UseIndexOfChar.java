@@ -77,6 +77,16 @@ public class UseIndexOfChar extends AJavaparserNodeMutator {
 		return "https://jsparrow.github.io/rules/use-is-empty-on-collections.html";
 	}
 
+	@Override
+	public Set<String> getTriggerTokens() {
+		return Set.of("indexOf", "lastIndexOf");
+	}
+
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(StringLiteralExpr.class);
+	}
+
 	@SuppressWarnings("PMD.CognitiveComplexity")
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
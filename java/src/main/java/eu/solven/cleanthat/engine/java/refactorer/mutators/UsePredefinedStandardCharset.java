@@ -66,6 +66,11 @@ public class UsePredefinedStandardCharset extends AJavaparserExprMutator {
 		return "https://jsparrow.github.io/rules/use-predefined-standard-charset.html";
 	}
 
+	@Override
+	public Set<String> getMethodNames() {
+		return Set.of("forName");
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		if (!expr.getNode().isMethodCallExpr()) {
@@ -18,6 +18,7 @@ package eu.solven.cleanthat.engine.java.refactorer.mutators;
 import java.util.Optional;
 import java.util.Set;
 
+import com.github.javaparser.ast.expr.BinaryExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.google.common.collect.ImmutableSet;
@@ -62,6 +63,17 @@ public class UseStringIsEmpty extends AUseXIsEmpty {
 		return Set.of(String.class);
 	}
 
+	@Override
+	public Set<String> getTriggerTokens() {
+		// `equals` also covers `equalsIgnoreCase`
+		return Set.of(getSizeMethod(), "equals");
+	}
+
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(BinaryExpr.class, MethodCallExpr.class);
+	}
+
 	@Override
 	protected boolean processExpression(NodeAndSymbolSolver<Expression> expr) {
 		boolean replaced = super.processExpression(expr);
@@ -55,6 +55,11 @@ public class UseTextBlocks extends AJavaparserNodeMutator {
 		return ImmutableSet.of("String");
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(Expression.class);
+	}
+
 	@SuppressWarnings("PMD.CognitiveComplexity")
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
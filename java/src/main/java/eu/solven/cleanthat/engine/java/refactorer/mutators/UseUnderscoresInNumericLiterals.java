@@ -79,6 +79,11 @@ public class UseUnderscoresInNumericLiterals extends AJavaparserNodeMutator {
 		return 4;
 	}
 
+	@Override
+	public Set<Class<?>> getNodeTypes() {
+		return Set.of(LiteralStringValueExpr.class);
+	}
+
 	@SuppressWarnings("PMD.CognitiveComplexity")
 	@Override
 	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.Set;
+
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter;
+import com.google.common.collect.ImmutableSet;
+
+import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
+
+/**
+ * This {@link IMutator} turns `indexOf` into `lastIndexOf`. Its changes can not be reverted while the AST is not
+ * printable. It can be useful to test the rollback failures.
+ *
+ * @author Benoit Lacelle
+ */
+public class NotRevertableMutator extends AJavaparserNodeMutator {
+	@Override
+	public String getId() {
+		return "NotRevertable";
+	}
+
+	@Override
+	public Set<String> getTags() {
+		return ImmutableSet.of("UnitTest");
+	}
+
+	@Override
+	protected boolean processNotRecursively(NodeAndSymbolSolver<?> node) {
+		if (!(node.getNode() instanceof MethodCallExpr)) {
+			return false;
+		}
+		var methodCall = (MethodCallExpr) node.getNode();
+		if (!"indexOf".equals(methodCall.getNameAsString())) {
+			return false;
+		}
+
+		var root = methodCall.findRootNode();
+		if (!root.containsData(LexicalPreservingPrinter.NODE_TEXT_DATA)) {
+			// Simulates a change which can not be recorded (e.g. a property without a setter)
+			AstChangeJournal.getOrMake(root).unrecoverable = true;
+		}
+
+		methodCall.setName("lastIndexOf");
+		return true;
+	}
+}
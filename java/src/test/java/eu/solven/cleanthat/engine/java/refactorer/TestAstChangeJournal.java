@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter;
+
+public class TestAstChangeJournal {
+	final String sourceCode = "public class SomeClass {\n" + "\tpublic void someMethod(Thread t) {\n"
+			+ "\t\tt.run();\n"
+			+ "\t\tt.interrupt();\n"
+			+ "\t}\n"
+			+ "}\n";
+
+	@Test
+	public void testRollback() {
+		CompilationUnit compilationUnit = StaticJavaParser.parse(sourceCode);
+		LexicalPreservingPrinter.setup(compilationUnit);
+		var original = compilationUnit.clone();
+
+		var journal = AstChangeJournal.getOrMake(compilationUnit);
+		var mark = journal.begin();
+
+		var runCall = compilationUnit.findFirst(MethodCallExpr.class).get();
+		runCall.setName("start");
+		// Re-parent the scope, as done by some mutators before cancelling the mutation
+		var scope = runCall.getScope().get();
+		new MethodCallExpr(scope, "join");
+		runCall.removeScope();
+		compilationUnit.findAll(MethodCallExpr.class).get(1).getParentNode().get().remove();
+
+		Assertions.assertThat(compilationUnit).isNotEqualTo(original);
+
+		Assertions.assertThat(journal.rollback(mark)).isTrue();
+		Assertions.assertThat(compilationUnit).isEqualTo(original);
+		Assertions.assertThat(scope.getParentNode()).contains(runCall);
+		Assertions.assertThat(LexicalPreservingPrinter.print(compilationUnit)).isEqualTo(sourceCode);
+	}
+
+	@Test
+	public void testRollback_movedNode() {
+		CompilationUnit compilationUnit = StaticJavaParser.parse(sourceCode);
+		LexicalPreservingPrinter.setup(compilationUnit);
+		var original = compilationUnit.clone();
+
+		var journal = AstChangeJournal.getOrMake(compilationUnit);
+		var mark = journal.begin();
+
+		var statements = compilationUnit.findAll(ExpressionStmt.class);
+		var runStatement = statements.get(0);
+		var runCall = runStatement.getExpression();
+		// Move `t.run()` into the second statement
+		statements.get(1).setExpression(runCall);
+
+		Assertions.assertThat(runCall.getParentNode()).contains(statements.get(1));
+		Assertions.assertThat(journal.hasParentChanges(mark)).isTrue();
+
+		Assertions.assertThat(journal.rollback(mark)).isTrue();
+		Assertions.assertThat(runCall.getParentNode()).contains(runStatement);
+		Assertions.assertThat(compilationUnit).isEqualTo(original);
+		Assertions.assertThat(LexicalPreservingPrinter.print(compilationUnit)).isEqualTo(sourceCode);
+	}
+
+	@Test
+	public void testCommit() {
+		CompilationUnit compilationUnit = StaticJavaParser.parse(sourceCode);
+
+		var journal = AstChangeJournal.getOrMake(compilationUnit);
+		var mark = journal.begin();
+
+		var runCall = compilationUnit.findFirst(MethodCallExpr.class).get();
+		runCall.setScope(new NameExpr("otherThread"));
+		journal.commit(mark);
+
+		Assertions.assertThat(runCall.getScope()).contains(new NameExpr("otherThread"));
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.comments.LineComment;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+
+public class TestCommentedNodesIndex {
+	final CompilationUnit compilationUnit = StaticJavaParser.parse("public class SomeClass {\n"
+			+ "\tpublic int commented() {\n"
+			+ "\t\t// Some comment\n"
+			+ "\t\treturn 1 + 2;\n"
+			+ "\t}\n"
+			+ "\tpublic int notCommented() {\n"
+			+ "\t\treturn 3 + 4;\n"
+			+ "\t}\n"
+			+ "}\n");
+
+	final MethodDeclaration commented = compilationUnit.getType(0).getMethodsByName("commented").get(0);
+	final MethodDeclaration notCommented = compilationUnit.getType(0).getMethodsByName("notCommented").get(0);
+
+	private ReturnStmt getReturn(MethodDeclaration method) {
+		return method.getBody().get().getStatement(0).asReturnStmt();
+	}
+
+	@Test
+	public void testCommented() {
+		var index = CommentedNodesIndex.getOrMake(compilationUnit);
+
+		// The commented Node and its ancestors
+		Assertions.assertThat(index.hasComment(getReturn(commented))).isTrue();
+		Assertions.assertThat(index.hasComment(commented)).isTrue();
+		Assertions.assertThat(index.hasComment(compilationUnit)).isTrue();
+
+		// The descendants of the commented Node do not hold a comment
+		Assertions.assertThat(index.hasComment(getReturn(commented).getExpression().get())).isFalse();
+
+		Assertions.assertThat(index.hasComment(notCommented)).isFalse();
+		Assertions.assertThat(index.hasComment(getReturn(notCommented))).isFalse();
+	}
+
+	@Test
+	public void testConsistentWithSubtreeScan() {
+		var index = CommentedNodesIndex.getOrMake(compilationUnit);
+
+		compilationUnit.walk(node -> Assertions.assertThat(index.hasComment(node))
+				.as("%s", node)
+				.isEqualTo(CommentedNodesIndex.hasCommentInSubtree(node)));
+	}
+
+	@Test
+	public void testRefreshedOnCommentChange() {
+		var index = CommentedNodesIndex.getOrMake(compilationUnit);
+		Assertions.assertThat(index.hasComment(notCommented)).isFalse();
+
+		getReturn(notCommented).setComment(new LineComment("Other comment"));
+		Assertions.assertThat(index.hasComment(notCommented)).isTrue();
+
+		getReturn(commented).removeComment();
+		getReturn(notCommented).removeComment();
+		Assertions.assertThat(index.hasComment(commented)).isFalse();
+		Assertions.assertThat(index.hasComment(compilationUnit)).isFalse();
+	}
+
+	@Test
+	public void testRefreshedOnMovedNode() {
+		var index = CommentedNodesIndex.getOrMake(compilationUnit);
+		Assertions.assertThat(index.hasComment(notCommented)).isFalse();
+
+		// Move the commented statement into the other method
+		var commentedReturn = getReturn(commented);
+		notCommented.getBody().get().getStatements().set(0, commentedReturn);
+
+		Assertions.assertThat(index.hasComment(notCommented)).isTrue();
+	}
+
+	@Test
+	public void testRefreshedOnClonedNode() {
+		var index = CommentedNodesIndex.getOrMake(compilationUnit);
+		Assertions.assertThat(index.hasComment(notCommented)).isFalse();
+
+		// The clone holds the comment, while it is not indexed
+		getReturn(notCommented).replace(getReturn(commented).clone());
+
+		Assertions.assertThat(index.hasComment(notCommented)).isTrue();
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter;
+
+import eu.solven.cleanthat.config.pojo.CleanthatEngineProperties;
+import eu.solven.cleanthat.config.pojo.SourceCodeProperties;
+import eu.solven.cleanthat.engine.java.IJdkVersionConstants;
+import eu.solven.cleanthat.engine.java.refactorer.meta.CompositeJavaparserMutator;
+import eu.solven.cleanthat.engine.java.refactorer.meta.FusedJavaparserMutator;
+import eu.solven.cleanthat.engine.java.refactorer.meta.IJavaparserAstMutator;
+import eu.solven.cleanthat.engine.java.refactorer.meta.IJavaparserNodeMutator;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.JUnit4ToJUnit5;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.UseCollectionIsEmpty;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.UseIndexOfChar;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.UseExplicitTypes;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.UseStringIsEmpty;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.SafeAndConsensualMutators;
+import eu.solven.cleanthat.engine.java.refactorer.test.OneMutatorCase;
+
+public class TestFusedJavaparserMutator {
+	final CleanthatEngineProperties engineProperties = CleanthatEngineProperties.builder()
+			.engine("java")
+			.engineVersion(IJdkVersionConstants.JDK_11)
+			.sourceCode(SourceCodeProperties.defaultRoot())
+			.build();
+
+	final String dirtyCode = "package some.pkg;\n" + "\n"
+			+ "import java.util.List;\n"
+			+ "\n"
+			+ "public class SomeClass {\n"
+			+ "\tpublic boolean isEmpty(List<String> list, String s) {\n"
+			+ "\t\treturn list.size() == 0 || s.length() == 0 || s.indexOf(\"a\") >= 0;\n"
+			+ "\t}\n"
+			+ "}\n";
+
+	@Test
+	public void testFuse_groupConsecutiveNodeMutators() {
+		List<IJavaparserAstMutator> fused = FusedJavaparserMutator.fuse(Arrays.asList(new UseCollectionIsEmpty(),
+				new UseStringIsEmpty(),
+				new CustomMutator(),
+				new UseIndexOfChar()));
+
+		Assertions.assertThat(fused).hasSize(3);
+		Assertions.assertThat(fused.get(0)).isInstanceOf(FusedJavaparserMutator.class);
+		Assertions.assertThat(((FusedJavaparserMutator) fused.get(0)).getUnderlyings()).hasSize(2);
+		Assertions.assertThat(fused.get(1)).isInstanceOf(CustomMutator.class);
+		Assertions.assertThat(fused.get(2)).isInstanceOf(FusedJavaparserMutator.class);
+	}
+
+	@Test
+	public void testFuse_excludeMutatorsOverridingTheWalk() {
+		// UseExplicitTypes and JUnit4ToJUnit5 complete the walk of the whole AST: they can not be fused
+		List<IJavaparserAstMutator> fused = FusedJavaparserMutator.fuse(Arrays.asList(new UseCollectionIsEmpty(),
+				new UseExplicitTypes(),
+				new UseStringIsEmpty(),
+				new JUnit4ToJUnit5()));
+
+		Assertions.assertThat(fused).hasSize(4);
+		Assertions.assertThat(fused.get(0)).isInstanceOf(FusedJavaparserMutator.class);
+		Assertions.assertThat(fused.get(1)).isInstanceOf(UseExplicitTypes.class);
+		Assertions.assertThat(fused.get(2)).isInstanceOf(FusedJavaparserMutator.class);
+		Assertions.assertThat(fused.get(3)).isInstanceOf(JUnit4ToJUnit5.class);
+
+		Assertions.assertThat(FusedJavaparserMutator.isFusable(new UseIndexOfChar())).isTrue();
+		Assertions.assertThat(FusedJavaparserMutator.isFusable(new CustomMutator())).isFalse();
+	}
+
+	@Test
+	public void testFusedWalk_sameAsSequential() throws IOException {
+		var sequentialProperties = JavaRefactorerProperties.defaults();
+		var sequential = new JavaRefactorer(engineProperties, sequentialProperties).doFormat(dirtyCode);
+
+		var fusedProperties = JavaRefactorerProperties.defaults();
+		fusedProperties.setFusedWalk(true);
+		var fused = new JavaRefactorer(engineProperties, fusedProperties).doFormat(dirtyCode);
+
+		Assertions.assertThat(sequential).contains("list.isEmpty() || s.isEmpty() || s.indexOf('a') >= 0");
+		Assertions.assertThat(fused).isEqualTo(sequential);
+	}
+
+	@Test
+	public void testFusedWalk_configuredComposite() {
+		var fusedProperties = JavaRefactorerProperties.defaults();
+		fusedProperties.setMutators(Arrays.asList(SafeAndConsensualMutators.class.getName()));
+		fusedProperties.setFusedWalk(true);
+
+		// The configured composite is unrolled, and its node mutators are fused
+		var refactorer = new JavaRefactorer(engineProperties, fusedProperties);
+		Assertions.assertThat(refactorer.getRawMutators()).hasAtLeastOneElementOfType(FusedJavaparserMutator.class);
+	}
+
+	@Test
+	public void testFusedWalk_metricsByUnderlyingMutator() throws IOException {
+		var fusedProperties = JavaRefactorerProperties.defaults();
+		fusedProperties.setMutators(
+				Arrays.asList(UseCollectionIsEmpty.class.getName(), UseStringIsEmpty.class.getName()));
+		fusedProperties.setFusedWalk(true);
+
+		var refactorer = new JavaRefactorer(engineProperties, fusedProperties);
+		refactorer.doFormat(dirtyCode);
+
+		// The mutations and the time are attributed to each fused mutator
+		var metrics = refactorer.getMutatorsMetrics();
+		Assertions.assertThat(metrics.get(new UseCollectionIsEmpty().getCleanthatId()))
+				.containsEntry(MutatorsMetrics.KEY_NB_MUTATIONS, 1L)
+				.containsKeys(MutatorsMetrics.KEY_NB_WALKS, MutatorsMetrics.KEY_WALL_TIME_NANOS);
+		Assertions.assertThat(metrics.get(new UseStringIsEmpty().getCleanthatId()))
+				.containsEntry(MutatorsMetrics.KEY_NB_MUTATIONS, 1L);
+	}
+
+	@Test
+	public void testFusedWalk_rewalkOnlyTheReplacement() {
+		var javaParser = JavaRefactorer.makeDefaultJavaParser(JavaRefactorer.JAVAPARSER_JRE_ONLY);
+		var compilationUnit = OneMutatorCase.throwIfProblems(javaParser.parse(
+				"public class SomeClass {\n" + "\tint x = (1 + 2) * 4;\n" + "\tint y = 5;\n" + "}\n"));
+
+		List<String> offeredLiterals = new ArrayList<>();
+		// Replaces `1 + 2` when offered `1`: the grand-parent of the mutated node is replaced
+		IJavaparserNodeMutator replaceParent = new IJavaparserNodeMutator() {
+			@Override
+			public Set<String> getTags() {
+				return Set.of("UnitTest");
+			}
+
+			@Override
+			public Set<String> getIds() {
+				return Set.of("ReplaceParent");
+			}
+
+			@Override
+			public Set<Class<?>> getNodeTypes() {
+				return Set.of(IntegerLiteralExpr.class);
+			}
+
+			@Override
+			public boolean walkNode(Node node) {
+				var literal = ((IntegerLiteralExpr) node).getValue();
+				offeredLiterals.add(literal);
+
+				if ("1".equals(literal)) {
+					return node.getParentNode().get().replace(new IntegerLiteralExpr("3"));
+				}
+				return false;
+			}
+		};
+
+		var mutated = new FusedJavaparserMutator(List.of(replaceParent)).walkAst(compilationUnit);
+		Assertions.assertThat(mutated).isPresent();
+		Assertions.assertThat(compilationUnit.toString()).contains("(3) * 4");
+
+		// `2` is dropped with `1 + 2`, and only `(3)` is walked again
+		Assertions.assertThat(offeredLiterals).containsExactly("1", "4", "5", "3");
+	}
+
+	private String walkComposite(boolean singleWalk) {
+		var javaParser = JavaRefactorer.makeDefaultJavaParser(JavaRefactorer.JAVAPARSER_JRE_ONLY);
+		var compilationUnit = OneMutatorCase.throwIfProblems(javaParser.parse(dirtyCode));
+		LexicalPreservingPrinter.setup(compilationUnit);
+
+		var properties = JavaRefactorerProperties.defaults();
+		properties.setFusedWalk(singleWalk);
+
+		// The nested composite is unnested when walking in a single pass
+		var composite = new CompositeJavaparserMutator(Arrays.asList(new UseCollectionIsEmpty(),
+				new CompositeJavaparserMutator(Arrays.asList(new UseStringIsEmpty(), new UseIndexOfChar()))),
+				properties);
+
+		Optional<Node> mutated = composite.walkAst(compilationUnit);
+		Assertions.assertThat(mutated).isPresent();
+
+		return LexicalPreservingPrinter.print(compilationUnit);
+	}
+
+	@Test
+	public void testCompositeSingleWalk_sameAsSequential() {
+		var sequential = walkComposite(false);
+		var singleWalk = walkComposite(true);
+
+		Assertions.assertThat(sequential).contains("list.isEmpty() || s.isEmpty() || s.indexOf('a') >= 0");
+		Assertions.assertThat(singleWalk).isEqualTo(sequential);
+	}
+
+	@Test
+	public void testCompositeSingleWalk_excludeMutatorsOverridingTheWalk() {
+		var composite = new CompositeJavaparserMutator(Arrays.asList(new UseCollectionIsEmpty(),
+				new CompositeJavaparserMutator(Arrays.asList(new UseExplicitTypes(), new UseStringIsEmpty()))));
+
+		List<IJavaparserAstMutator> singleWalk = composite.getSingleWalkMutators();
+		Assertions.assertThat(singleWalk).hasSize(3);
+		Assertions.assertThat(singleWalk.get(0)).isInstanceOf(FusedJavaparserMutator.class);
+		Assertions.assertThat(singleWalk.get(1)).isInstanceOf(UseExplicitTypes.class);
+		Assertions.assertThat(singleWalk.get(2)).isInstanceOf(FusedJavaparserMutator.class);
+	}
+}
@@ -16,29 +16,41 @@
 package eu.solven.cleanthat.engine.java.refactorer;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.Assertions;
 import org.codehaus.plexus.languages.java.version.JavaVersion;
 import org.junit.Test;
 
 import com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
 
 import eu.solven.cleanthat.config.pojo.CleanthatEngineProperties;
+import eu.solven.cleanthat.config.pojo.SourceCodeProperties;
 import eu.solven.cleanthat.engine.java.IJdkVersionConstants;
 import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.GuavaStringsIsNullOrEmpty;
 import eu.solven.cleanthat.engine.java.refactorer.mutators.LocalVariableTypeInference;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.UnnecessaryImport;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.UseCollectionIsEmpty;
 import eu.solven.cleanthat.engine.java.refactorer.mutators.UseDiamondOperator;
 import eu.solven.cleanthat.engine.java.refactorer.mutators.UseDiamondOperatorJdk8;
 import eu.solven.cleanthat.engine.java.refactorer.mutators.UseIndexOfChar;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.UseStringIsEmpty;
 import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.AllIncludingDraftSingleMutators;
 import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.PMDMutators;
 import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.SafeAndConsensualMutators;
 import eu.solven.cleanthat.engine.java.refactorer.test.LocalClassTestHelper;
 import eu.solven.cleanthat.engine.java.refactorer.test.OneMutatorCase;
+import eu.solven.cleanthat.formatter.PathAndContent;
 
 public class TestJavaRefactorer {
 	final CleanthatEngineProperties engineProperties =
@@ -291,4 +303,298 @@ public class TestJavaRefactorer {
 				.contains(UseDiamondOperatorJdk8.class.getName());
 	}
 
+	@Test
+	public void testLiveAst_sameAsOneByOne() throws IOException {
+		String dirtyCode = "package some.pkg;\n" + "\n"
+				+ "import java.util.List;\n"
+				+ "\n"
+				+ "public class SomeClass {\n"
+				+ "\tpublic boolean isEmpty(List<String> list, String s) {\n"
+				+ "\t\treturn list.size() == 0 || s.length() == 0 || s.indexOf(\"a\") >= 0;\n"
+				+ "\t}\n"
+				+ "}\n";
+
+		var engineWithSourceCode = CleanthatEngineProperties.builder()
+				.engine("java")
+				.engineVersion(IJdkVersionConstants.JDK_11)
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.build();
+
+		var oneByOne = new JavaRefactorer(engineWithSourceCode, prdMutatorsProperties).doFormat(dirtyCode);
+
+		var liveProperties = JavaRefactorerProperties.allProductionReady();
+		liveProperties.setLiveAst(true);
+		var live = new JavaRefactorer(engineWithSourceCode, liveProperties).doFormat(dirtyCode);
+
+		Assertions.assertThat(oneByOne).isNotEqualTo(dirtyCode);
+		Assertions.assertThat(live).isEqualTo(oneByOne);
+	}
+
+	@Test
+	public void testTransactionalMutations_sameAsNotTransactional() throws IOException {
+		String dirtyCode = "package some.pkg;\n" + "\n"
+				+ "import java.util.List;\n"
+				+ "\n"
+				+ "public class SomeClass {\n"
+				+ "\tpublic boolean isEmpty(List<String> list, String s) {\n"
+				+ "\t\treturn list.size() == 0 || s.length() == 0 || s.indexOf(\"a\") >= 0;\n"
+				+ "\t}\n"
+				+ "}\n";
+
+		var engineWithSourceCode = CleanthatEngineProperties.builder()
+				.engine("java")
+				.engineVersion(IJdkVersionConstants.JDK_11)
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.build();
+
+		Assertions.assertThat(prdMutatorsProperties.isTransactionalMutations()).isTrue();
+		var transactional = new JavaRefactorer(engineWithSourceCode, prdMutatorsProperties).doFormat(dirtyCode);
+
+		var notTransactionalProperties = JavaRefactorerProperties.allProductionReady();
+		notTransactionalProperties.setTransactionalMutations(false);
+		var notTransactional =
+				new JavaRefactorer(engineWithSourceCode, notTransactionalProperties).doFormat(dirtyCode);
+
+		Assertions.assertThat(transactional).isNotEqualTo(dirtyCode);
+		Assertions.assertThat(notTransactional).isEqualTo(transactional);
+	}
+
+	@Test
+	public void testFirstMutation_rollbackFails() throws IOException {
+		String dirtyCode = "package some.pkg;\n" + "\n"
+				+ "public class SomeClass {\n"
+				+ "\tpublic int indexOf(String s) {\n"
+				+ "\t\treturn s.indexOf(\"a\") + s.indexOf(\"b\");\n"
+				+ "\t}\n"
+				+ "}\n";
+
+		var engineWithSourceCode = CleanthatEngineProperties.builder()
+				.engine("java")
+				.engineVersion(IJdkVersionConstants.JDK_11)
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.build();
+		var customProperties = new JavaRefactorerProperties();
+		customProperties.setMutators(Arrays.asList(NotRevertableMutator.class.getName()));
+
+		var rulesJavaMutator = new JavaRefactorer(engineWithSourceCode, customProperties);
+
+		// The first mutation can not be reverted: the corrupted AST is discarded, and the source code parsed again
+		var cleanCode = rulesJavaMutator.doFormat(dirtyCode);
+		Assertions.assertThat(cleanCode).isEqualTo(dirtyCode.replace(".indexOf(", ".lastIndexOf("));
+
+		Assertions.assertThat(rulesJavaMutator.getMutatorsMetrics().get("NotRevertableMutator"))
+				.containsEntry(MutatorsMetrics.KEY_NB_WALKS, 2L)
+				.containsEntry(MutatorsMetrics.KEY_NB_MUTATIONS, 1L);
+	}
+
+	@Test
+	public void testLazyLexicalPreservation() throws IOException {
+		String dirtyCode = "package some.pkg;\n" + "\n"
+				+ "public class SomeClass {\n"
+				+ "\tpublic int indexOf(String s) {\n"
+				+ "\t\treturn s.indexOf(\"a\");\n"
+				+ "\t}\n"
+				+ "}\n";
+
+		var engineWithSourceCode = CleanthatEngineProperties.builder()
+				.engine("java")
+				.engineVersion(IJdkVersionConstants.JDK_11)
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.build();
+		var customProperties = new JavaRefactorerProperties();
+		customProperties.setMutators(Arrays.asList(UseIndexOfChar.class.getName()));
+
+		var rulesJavaMutator = new JavaRefactorer(engineWithSourceCode, customProperties);
+		var javaParser = JavaRefactorer.makeDefaultJavaParser(JavaRefactorer.JAVAPARSER_JRE_ONLY);
+
+		var toWalk = rulesJavaMutator.parseSourceCodeToWalk(javaParser, dirtyCode).get();
+		Assertions.assertThat(rulesJavaMutator.isPrintable(toWalk)).isFalse();
+
+		var printable = rulesJavaMutator.parseSourceCode(javaParser, dirtyCode).get();
+		Assertions.assertThat(rulesJavaMutator.isPrintable(printable)).isTrue();
+
+		// The mutation over the not printable AST is applied again over a printable AST
+		Assertions.assertThat(rulesJavaMutator.doFormat(dirtyCode)).isEqualTo(dirtyCode.replace("\"a\"", "'a'"));
+	}
+
+	@Test
+	public void testDetect() {
+		String dirtyCode = "package some.pkg;\n" + "\n"
+				+ "import java.util.List;\n"
+				+ "\n"
+				+ "public class SomeClass {\n"
+				+ "\tpublic boolean isEmpty(List<String> list, String s) {\n"
+				+ "\t\treturn list.size() == 0 || s.length() == 0;\n"
+				+ "\t}\n"
+				+ "}\n";
+
+		var engineWithSourceCode = CleanthatEngineProperties.builder()
+				.engine("java")
+				.engineVersion(IJdkVersionConstants.JDK_11)
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.build();
+		var customProperties = new JavaRefactorerProperties();
+		customProperties.setMutators(
+				Arrays.asList(UseCollectionIsEmpty.class.getName(), UseStringIsEmpty.class.getName()));
+
+		var rulesJavaMutator = new JavaRefactorer(engineWithSourceCode, customProperties);
+		var path = Paths.get("SomeClass.java");
+
+		// The mutations are reverted: each mutator is detected over the original code
+		List<MutatorFinding> findings = rulesJavaMutator.detect(new PathAndContent(path, dirtyCode), false);
+		Assertions.assertThat(findings)
+				.map(MutatorFinding::getMutatorId)
+				.containsExactly(new UseCollectionIsEmpty().getCleanthatId(), new UseStringIsEmpty().getCleanthatId());
+		Assertions.assertThat(findings).allSatisfy(finding -> {
+			Assertions.assertThat(finding.getPath()).isEqualTo(path);
+			Assertions.assertThat(finding.isLocated()).isTrue();
+			Assertions.assertThat(finding.getBeginLine()).isEqualTo(7);
+		});
+
+		Assertions.assertThat(rulesJavaMutator.detect(new PathAndContent(path, dirtyCode), true)).hasSize(1);
+	}
+
+	@Test
+	public void testChangedLines() throws IOException {
+		String dirtyCode = "package some.pkg;\n" + "\n"
+				+ "import java.util.List;\n"
+				+ "\n"
+				+ "public class SomeClass {\n"
+				+ "\tpublic boolean isEmpty(List<String> list, String s) {\n"
+				+ "\t\tboolean listIsEmpty = list.size() == 0;\n"
+				+ "\t\treturn listIsEmpty || s.length() == 0;\n"
+				+ "\t}\n"
+				+ "}\n";
+
+		var engineWithSourceCode = CleanthatEngineProperties.builder()
+				.engine("java")
+				.engineVersion(IJdkVersionConstants.JDK_11)
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.build();
+		var customProperties = new JavaRefactorerProperties();
+		customProperties.setMutators(
+				Arrays.asList(UseCollectionIsEmpty.class.getName(), UseStringIsEmpty.class.getName()));
+
+		var rulesJavaMutator = new JavaRefactorer(engineWithSourceCode, customProperties);
+
+		// Only the second statement has been changed
+		var pathAndContent = new PathAndContent(Paths.get("SomeClass.java"), dirtyCode)
+				.withChangedLines(ImmutableRangeSet.of(Range.closed(8, 8)));
+
+		Assertions.assertThat(rulesJavaMutator.doFormat(pathAndContent))
+				.isEqualTo(dirtyCode.replace("s.length() == 0", "s.isEmpty()"));
+	}
+
+	@Test
+	public void testChangedLines_shiftedByPreviousMutator() throws IOException {
+		String dirtyCode = "package some.pkg;\n" + "\n"
+				+ "import java.util.List;\n"
+				+ "import java.util.Map;\n"
+				+ "\n"
+				+ "public class SomeClass {\n"
+				+ "\tpublic int indexOf(List<String> list, String s, String t) {\n"
+				+ "\t\tint sIndex = s.indexOf(\"a\");\n"
+				+ "\t\tint tIndex = t.indexOf(\"b\");\n"
+				+ "\t\treturn sIndex + tIndex + list.size();\n"
+				+ "\t}\n"
+				+ "}\n";
+
+		var engineWithSourceCode = CleanthatEngineProperties.builder()
+				.engine("java")
+				.engineVersion(IJdkVersionConstants.JDK_11)
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.build();
+		var customProperties = new JavaRefactorerProperties();
+		// Removing the unused import shifts the following lines
+		customProperties
+				.setMutators(Arrays.asList(UnnecessaryImport.class.getName(), UseIndexOfChar.class.getName()));
+
+		var rulesJavaMutator = new JavaRefactorer(engineWithSourceCode, customProperties);
+
+		// The unused import and the first statement have been changed
+		var pathAndContent = new PathAndContent(Paths.get("SomeClass.java"), dirtyCode)
+				.withChangedLines(ImmutableRangeSet.<Integer>builder()
+						.add(Range.closed(4, 4))
+						.add(Range.closed(8, 8))
+						.build());
+
+		var cleanCode = rulesJavaMutator.doFormat(pathAndContent);
+		Assertions.assertThat(cleanCode)
+				.doesNotContain("import java.util.Map;")
+				.contains("s.indexOf('a')")
+				.contains("t.indexOf(\"b\")");
+	}
+
+	@Test
+	public void testTriggerTokens_lastIndexOfOnly() throws IOException {
+		String dirtyCode = "package some.pkg;\n" + "\n"
+				+ "public class SomeClass {\n"
+				+ "\tpublic int lastIndexOf(String s) {\n"
+				+ "\t\treturn s.lastIndexOf(\"d\");\n"
+				+ "\t}\n"
+				+ "}\n";
+
+		var engineWithSourceCode = CleanthatEngineProperties.builder()
+				.engine("java")
+				.engineVersion(IJdkVersionConstants.JDK_11)
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.build();
+		var customProperties = new JavaRefactorerProperties();
+		customProperties.setMutators(Arrays.asList(UseIndexOfChar.class.getName()));
+
+		var rulesJavaMutator = new JavaRefactorer(engineWithSourceCode, customProperties);
+
+		// `lastIndexOf` does not contain the case-sensitive `indexOf` token
+		Assertions.assertThat(rulesJavaMutator.doFormat(dirtyCode)).isEqualTo(dirtyCode.replace("\"d\"", "'d'"));
+	}
+
+	@Test
+	public void testTriggerTokens_introducedByPreviousMutator() throws IOException {
+		String dirtyCode = "package some.pkg;\n" + "\n"
+				+ "public class SomeClass {\n"
+				+ "\tpublic boolean isNullOrEmpty(String s) {\n"
+				+ "\t\treturn s == null || s.length() == 0;\n"
+				+ "\t}\n"
+				+ "}\n";
+
+		var engineWithSourceCode = CleanthatEngineProperties.builder()
+				.engine("java")
+				.engineVersion(IJdkVersionConstants.JDK_11)
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.build();
+
+		// Applied in 2 passes, `isEmpty` is present when `GuavaStringsIsNullOrEmpty` is evaluated
+		var stringIsEmptyProperties = new JavaRefactorerProperties();
+		stringIsEmptyProperties.setMutators(Arrays.asList(UseStringIsEmpty.class.getName()));
+		var isNullOrEmptyProperties = new JavaRefactorerProperties();
+		isNullOrEmptyProperties.setMutators(Arrays.asList(GuavaStringsIsNullOrEmpty.class.getName()));
+		var twoPasses = new JavaRefactorer(engineWithSourceCode, isNullOrEmptyProperties)
+				.doFormat(new JavaRefactorer(engineWithSourceCode, stringIsEmptyProperties).doFormat(dirtyCode));
+		Assertions.assertThat(twoPasses).contains("return Strings.isNullOrEmpty(s);");
+
+		// `isEmpty` is not present in the original code: it is introduced by `UseStringIsEmpty`
+		for (boolean liveAst : new boolean[] { false, true }) {
+			var bothProperties = new JavaRefactorerProperties();
+			bothProperties.setMutators(
+					Arrays.asList(UseStringIsEmpty.class.getName(), GuavaStringsIsNullOrEmpty.class.getName()));
+			bothProperties.setLiveAst(liveAst);
+			var onePass = new JavaRefactorer(engineWithSourceCode, bothProperties).doFormat(dirtyCode);
+
+			Assertions.assertThat(onePass).as("liveAst=%s", liveAst).isEqualTo(twoPasses);
+		}
+	}
+
+	@Test
+	public void testSharedTypeSolver_concurrent() {
+		var typeSolver = JavaRefactorer.getSharedTypeSolver();
+		Assertions.assertThat(JavaRefactorer.getSharedTypeSolver()).isSameAs(typeSolver);
+
+		List<String> resolved = IntStream.range(0, 64)
+				.parallel()
+				.mapToObj(i -> i % 2 == 0 ? List.class.getName() : ImmutableMap.class.getName())
+				.map(typeName -> typeSolver.solveType(typeName).getQualifiedName())
+				.collect(Collectors.toList());
+
+		Assertions.assertThat(resolved).containsOnly(List.class.getName(), ImmutableMap.class.getName());
+	}
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+
+import eu.solven.cleanthat.engine.java.refactorer.mutators.ModifierOrder;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.ThreadRunToThreadStart;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.UseCollectionIsEmpty;
+
+public class TestJavaparserNodeIndex {
+	final CompilationUnit compilationUnit = StaticJavaParser.parse("public class SomeClass {\n"
+			+ "\tpublic static boolean isEmpty(java.util.List<String> list, Thread t) {\n"
+			+ "\t\tt.run();\n"
+			+ "\t\treturn list.size() == 0 || list.size() == 1;\n"
+			+ "\t}\n"
+			+ "}\n");
+
+	@Test
+	public void testCandidates_byType() {
+		List<Node> candidates = JavaparserNodeIndex.getOrMake(compilationUnit).getCandidates(new UseCollectionIsEmpty());
+
+		// The `||` is walked before its operands
+		Assertions.assertThat(candidates).hasSize(3).allMatch(BinaryExpr.class::isInstance);
+		Assertions.assertThat(((BinaryExpr) candidates.get(0)).getOperator()).isEqualTo(BinaryExpr.Operator.OR);
+	}
+
+	@Test
+	public void testCandidates_byInterface() {
+		List<Node> candidates = JavaparserNodeIndex.getOrMake(compilationUnit).getCandidates(new ModifierOrder());
+
+		// The class, the method and the 2 parameters
+		Assertions.assertThat(candidates).hasSize(4);
+	}
+
+	@Test
+	public void testCandidates_byMethodName() {
+		List<Node> candidates =
+				JavaparserNodeIndex.getOrMake(compilationUnit).getCandidates(new ThreadRunToThreadStart());
+
+		Assertions.assertThat(candidates).hasSize(1).allMatch(MethodCallExpr.class::isInstance);
+	}
+
+	@Test
+	public void testCandidates_refreshedOnMutation() {
+		var index = JavaparserNodeIndex.getOrMake(compilationUnit);
+		var runCall = (MethodCallExpr) index.getCandidates(new ThreadRunToThreadStart()).get(0);
+
+		runCall.setName("start");
+		Assertions.assertThat(index.getCandidates(new ThreadRunToThreadStart())).isEmpty();
+
+		runCall.replace(new MethodCallExpr(new NameExpr("t"), "run"));
+		Assertions.assertThat(index.getCandidates(new ThreadRunToThreadStart())).hasSize(1);
+	}
+
+	@Test
+	public void testPendingRoots() {
+		var index = JavaparserNodeIndex.getOrMake(compilationUnit);
+		var runCall = (MethodCallExpr) index.getCandidates(new ThreadRunToThreadStart()).get(0);
+
+		List<Node> pendingRoots = index.getPendingRoots(runCall);
+
+		// The children of `t.run()`, then the `return` statement
+		Assertions.assertThat(pendingRoots).hasSize(3);
+		Assertions.assertThat(pendingRoots.get(0)).isSameAs(runCall.getScope().get());
+		Assertions.assertThat(pendingRoots.get(1)).isSameAs(runCall.getName());
+		Assertions.assertThat(pendingRoots.get(2)).isInstanceOf(ReturnStmt.class);
+	}
+}
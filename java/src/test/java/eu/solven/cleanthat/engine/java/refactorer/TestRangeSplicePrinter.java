@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.CharLiteralExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.printer.lexicalpreservation.LexicalPreservingPrinter;
+
+public class TestRangeSplicePrinter {
+	final String sourceCode = "package some.pkg;\n" + "\n"
+			+ "public class SomeClass {\n"
+			+ "\t/**\n"
+			+ "\t * Some javadoc\n"
+			+ "\t */\n"
+			+ "\tpublic int someMethod(String s) {\n"
+			+ "\t\treturn s.indexOf(\"a\");\n"
+			+ "\t}\n"
+			+ "\n"
+			+ "\tpublic int otherMethod(String s) {\n"
+			+ "\t\treturn s.indexOf(\"b\");\n"
+			+ "\t}\n"
+			+ "}\n";
+
+	final CompilationUnit compilationUnit = StaticJavaParser.parse(sourceCode);
+
+	{
+		LexicalPreservingPrinter.setup(compilationUnit);
+		RangeSplicePrinter.setup(compilationUnit, sourceCode);
+	}
+
+	@Test
+	public void testNoMutation() {
+		Assertions.assertThat(RangeSplicePrinter.optPrint(compilationUnit)).contains(sourceCode);
+	}
+
+	@Test
+	public void testReplace() {
+		compilationUnit.findAll(StringLiteralExpr.class).forEach(s -> s.replace(new CharLiteralExpr(s.getValue())));
+
+		Assertions.assertThat(RangeSplicePrinter.optPrint(compilationUnit))
+				.contains(sourceCode.replace("\"a\"", "'a'").replace("\"b\"", "'b'"));
+	}
+
+	@Test
+	public void testCommentChange() {
+		var someMethod = compilationUnit.findFirst(MethodDeclaration.class).get();
+		someMethod.setJavadocComment("Other javadoc");
+
+		// The comment is printed by the parent of the commented Node
+		Assertions.assertThat(RangeSplicePrinter.optPrint(compilationUnit))
+				.contains(LexicalPreservingPrinter.print(compilationUnit));
+	}
+
+	@Test
+	public void testMovedNode() {
+		var methods = compilationUnit.findAll(MethodDeclaration.class);
+		var someBody = methods.get(0).getBody().get();
+		var otherBody = methods.get(1).getBody().get();
+
+		// Swap the bodies: their original Ranges do not refer to their new locations
+		methods.get(0).setBody(otherBody.clone());
+		methods.get(1).setBody(someBody);
+
+		Assertions.assertThat(RangeSplicePrinter.optPrint(compilationUnit))
+				.contains(LexicalPreservingPrinter.print(compilationUnit));
+	}
+
+	@Test
+	public void testRootMutation() {
+		compilationUnit.addImport("java.util.List");
+
+		Assertions.assertThat(RangeSplicePrinter.optPrint(compilationUnit)).isEmpty();
+	}
+
+	@Test
+	public void testFixUnexpectedChanges() {
+		// The removed empty line is restored, while the actual change is kept
+		Assertions
+				.assertThat(RangeSplicePrinter.fixUnexpectedChanges("{\n\n\n\ta();\n\tb();\n}",
+						"{\n\n\ta();\n\tc();\n}"))
+				.isEqualTo("{\n\n\n\ta();\n\tc();\n}");
+
+		// CRLF are preserved
+		Assertions
+				.assertThat(RangeSplicePrinter.fixUnexpectedChanges("{\r\n\r\n\r\n\ta();\r\n\tb();\r\n}",
+						"{\r\n\r\n\ta();\r\n\tc();\r\n}"))
+				.isEqualTo("{\r\n\r\n\r\n\ta();\r\n\tc();\r\n}");
+	}
+
+	@Test
+	public void testNotSetup() {
+		Assertions.assertThat(RangeSplicePrinter.optPrint(StaticJavaParser.parse(sourceCode))).isEmpty();
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.MarkerAnnotationExpr;
+
+public class TestSuppressCleanthatIndex {
+	final CompilationUnit compilationUnit = StaticJavaParser.parse("public class SomeClass {\n"
+			+ "\t@eu.solven.cleanthat.SuppressCleanthat\n"
+			+ "\tpublic int suppressed() {\n"
+			+ "\t\treturn 1 + 2;\n"
+			+ "\t}\n"
+			+ "\tpublic int notSuppressed() {\n"
+			+ "\t\treturn 3 + 4;\n"
+			+ "\t}\n"
+			+ "}\n");
+
+	final MethodDeclaration suppressed = compilationUnit.getType(0).getMethodsByName("suppressed").get(0);
+	final MethodDeclaration notSuppressed = compilationUnit.getType(0).getMethodsByName("notSuppressed").get(0);
+
+	@Test
+	public void testSuppressed() {
+		var index = SuppressCleanthatIndex.getOrMake(compilationUnit);
+
+		// The annotated Node, its descendants and its ancestors
+		Assertions.assertThat(index.isSuppressed(suppressed)).isTrue();
+		Assertions.assertThat(index.isSuppressed(suppressed.getBody().get())).isTrue();
+		Assertions.assertThat(index.isSuppressed(compilationUnit.getType(0))).isTrue();
+		Assertions.assertThat(index.isSuppressed(compilationUnit)).isTrue();
+
+		Assertions.assertThat(index.isSuppressed(notSuppressed)).isFalse();
+		Assertions.assertThat(index.isSuppressed(notSuppressed.getBody().get())).isFalse();
+	}
+
+	@Test
+	public void testRefreshedOnAnnotationChange() {
+		var index = SuppressCleanthatIndex.getOrMake(compilationUnit);
+		Assertions.assertThat(index.isSuppressed(notSuppressed)).isFalse();
+
+		notSuppressed.addAnnotation(new MarkerAnnotationExpr("SuppressCleanthat"));
+		Assertions.assertThat(index.isSuppressed(notSuppressed.getBody().get())).isTrue();
+
+		suppressed.getAnnotations().clear();
+		notSuppressed.getAnnotations().clear();
+		Assertions.assertThat(index.isSuppressed(suppressed)).isFalse();
+		Assertions.assertThat(index.isSuppressed(compilationUnit)).isFalse();
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.type.PrimitiveType;
+import com.github.javaparser.resolution.types.ResolvedPrimitiveType;
+import com.github.javaparser.resolution.types.ResolvedType;
+
+public class TestSymbolResolutionMemo {
+	final CompilationUnit compilationUnit = StaticJavaParser.parse("public class SomeClass {\n"
+			+ "\tpublic int someMethod(int i) {\n"
+			+ "\t\treturn i + 2;\n"
+			+ "\t}\n"
+			+ "}\n");
+
+	final AtomicInteger nbResolutions = new AtomicInteger();
+
+	private Optional<ResolvedType> resolve() {
+		nbResolutions.incrementAndGet();
+		return Optional.empty();
+	}
+
+	@Test
+	public void testMemoized() {
+		var memo = SymbolResolutionMemo.getOrMake(compilationUnit);
+		var name = compilationUnit.findFirst(NameExpr.class).get();
+
+		Assertions.assertThat(memo.getType(name, this::resolve)).isEmpty();
+		Assertions.assertThat(memo.getType(name, this::resolve)).isEmpty();
+		Assertions.assertThat(nbResolutions).hasValue(1);
+
+		Assertions.assertThat(SymbolResolutionMemo.optMemo(name)).contains(memo);
+		Assertions.assertThat(SymbolResolutionMemo.optMemo(name.clone())).isEmpty();
+	}
+
+	@Test
+	public void testInvalidatedOnChange() {
+		var memo = SymbolResolutionMemo.getOrMake(compilationUnit);
+		var binaryExpr = compilationUnit.findFirst(BinaryExpr.class).get();
+		var name = compilationUnit.findFirst(NameExpr.class).get();
+
+		memo.getType(binaryExpr, this::resolve);
+		memo.getType(name, this::resolve);
+		Assertions.assertThat(nbResolutions).hasValue(2);
+
+		binaryExpr.setRight(new IntegerLiteralExpr("3"));
+
+		// Any Node is resolved again, as it may depend on the change
+		memo.getType(binaryExpr, this::resolve);
+		memo.getType(name, this::resolve);
+		Assertions.assertThat(nbResolutions).hasValue(4);
+	}
+
+	@Test
+	public void testInvalidatedOnDeclarationChange() {
+		var withVariable = StaticJavaParser.parse("public class SomeClass {\n" + "\tpublic long someMethod() {\n"
+				+ "\t\tint i = 2;\n"
+				+ "\t\treturn i;\n"
+				+ "\t}\n"
+				+ "}\n");
+		var memo = SymbolResolutionMemo.getOrMake(withVariable);
+		var declarator = withVariable.findFirst(VariableDeclarator.class).get();
+		var usage = withVariable.findFirst(NameExpr.class).get();
+
+		// The type of the usage depends on its declaration
+		Supplier<Optional<ResolvedType>> resolver =
+				() -> Optional.of(ResolvedPrimitiveType.byName(declarator.getTypeAsString()));
+
+		Assertions.assertThat(memo.getType(usage, resolver)).contains(ResolvedPrimitiveType.INT);
+
+		declarator.setType(PrimitiveType.longType());
+
+		Assertions.assertThat(memo.getType(usage, resolver)).contains(ResolvedPrimitiveType.LONG);
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer.helpers;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+import com.github.javaparser.resolution.model.typesystem.ReferenceTypeImpl;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+
+public class TestResolvedTypeHelpers {
+	final ReflectionTypeSolver typeSolver = new ReflectionTypeSolver();
+
+	@Test
+	public void testIsAssignableBy_cached() {
+		// A type without type parameters, else it would not be cached
+		var string = new ReferenceTypeImpl(typeSolver.solveType(String.class.getName()));
+
+		long hitsBefore = ResolvedTypeHelpers.getIsAssignableByStats().hitCount();
+
+		Assertions.assertThat(ResolvedTypeHelpers.isAssignableBy(CharSequence.class.getName(), string)).isTrue();
+		Assertions.assertThat(ResolvedTypeHelpers.isAssignableBy(CharSequence.class.getName(), string)).isTrue();
+		Assertions.assertThat(ResolvedTypeHelpers.isAssignableBy(Number.class.getName(), string)).isFalse();
+		Assertions.assertThat(ResolvedTypeHelpers.isAssignableBy("not.existing.Clazz", string)).isFalse();
+
+		Assertions.assertThat(ResolvedTypeHelpers.getIsAssignableByStats().hitCount()).isGreaterThan(hitsBefore);
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer.it;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Assume;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.sun.management.ThreadMXBean;
+
+import eu.solven.cleanthat.config.pojo.CleanthatEngineProperties;
+import eu.solven.cleanthat.config.pojo.SourceCodeProperties;
+import eu.solven.cleanthat.engine.java.IJdkVersionConstants;
+import eu.solven.cleanthat.engine.java.refactorer.JavaRefactorer;
+import eu.solven.cleanthat.engine.java.refactorer.JavaRefactorerProperties;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.AllIncludingDraftSingleMutators;
+import eu.solven.cleanthat.engine.java.refactorer.test.ATestCases;
+import eu.solven.cleanthat.engine.java.refactorer.test.LocalClassTestHelper;
+
+/**
+ * Replays the whole corpus of test-cases (`Test*Cases.java`) through {@link JavaRefactorer} with all mutators, and
+ * compares the allocated bytes per case and the overall files/second with a stored baseline. Allocations are
+ * deterministic enough to detect a mutator turning quadratic on a given case, while the throughput is checked only
+ * globally, as individual timings are noisy.
+ *
+ * Run with `mvn verify -P!skipITs -pl java -Dit.test=ITRefactorerThroughput`. The budget is configured with
+ * `-Dcleanthat.throughput.budget=2.0` (a ratio over the baseline). The baseline is re-recorded with
+ * `-Dcleanthat.throughput.record=true`, then copied from `target/throughput` into `src/test/resources/throughput`. The
+ * harness is skipped while the baseline holds no measure.
+ *
+ * @author Benoit Lacelle
+ *
+ */
+public class ITRefactorerThroughput {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ITRefactorerThroughput.class);
+
+	public static final String KEY_BUDGET = "cleanthat.throughput.budget";
+	public static final String KEY_RECORD = "cleanthat.throughput.record";
+
+	private static final String DEFAULT_BUDGET = "2.0";
+	private static final int NB_ROUNDS = 5;
+
+	private static final String BASELINE = "throughput/baseline.properties";
+	private static final String KEY_FILES_PER_SECOND = "files_per_second";
+	private static final String SUFFIX_ALLOCATED_BYTES = ".allocated_bytes";
+
+	final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	@Test
+	public void testThroughputWithinBudget() throws IOException {
+		Assume.assumeTrue("Allocations are not measurable", threadMXBean.isThreadAllocatedMemorySupported());
+
+		var isRecording = Boolean.getBoolean(KEY_RECORD);
+		var baseline = loadBaseline();
+		// An empty baseline would accept any regression: the harness is skipped until a baseline is recorded
+		Assume.assumeTrue("The baseline is empty. Record it with -D" + KEY_RECORD
+				+ "=true, and copy target/"
+				+ BASELINE
+				+ " into src/test/resources", isRecording || !baseline.isEmpty());
+
+		var refactorer = makeRefactorer();
+
+		// The first round warms-up the JIT and the caches, and discards the cases which fail (which is checked by
+		// the unitTests, not by this harness)
+		Map<String, String> caseToSourceCode = new TreeMap<>();
+		loadCorpus().forEach((caseId, sourceCode) -> {
+			try {
+				refactorer.doFormat(sourceCode);
+				caseToSourceCode.put(caseId, sourceCode);
+			} catch (IOException | RuntimeException e) {
+				LOGGER.warn("Discarding case={} as it fails", caseId, e);
+			}
+		});
+		Assertions.assertThat(caseToSourceCode).isNotEmpty();
+
+		Map<String, Long> caseToAllocatedBytes = new TreeMap<>();
+		Map<String, Long> caseToNanos = new TreeMap<>();
+		for (var round = 0; round < NB_ROUNDS; round++) {
+			for (Map.Entry<String, String> oneCase : caseToSourceCode.entrySet()) {
+				var startBytes = getAllocatedBytes();
+				var startNanos = System.nanoTime();
+
+				refactorer.doFormat(oneCase.getValue());
+
+				// The minimum over rounds is the most stable measure
+				caseToNanos.merge(oneCase.getKey(), System.nanoTime() - startNanos, Math::min);
+				caseToAllocatedBytes.merge(oneCase.getKey(), getAllocatedBytes() - startBytes, Math::min);
+			}
+		}
+
+		var totalNanos = caseToNanos.values().stream().mapToLong(l -> l).sum();
+		var filesPerSecond = caseToNanos.size() * (double) TimeUnit.SECONDS.toNanos(1) / totalNanos;
+		LOGGER.info("Processed {} cases at {} files/second", caseToNanos.size(), (long) filesPerSecond);
+		caseToNanos.entrySet()
+				.stream()
+				.sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+				.limit(10)
+				.forEach(e -> LOGGER.info("Slowest case={} took {}us and allocated {} bytes",
+						e.getKey(),
+						TimeUnit.NANOSECONDS.toMicros(e.getValue()),
+						caseToAllocatedBytes.get(e.getKey())));
+
+		if (isRecording) {
+			recordBaseline(filesPerSecond, caseToAllocatedBytes);
+		} else {
+			checkBudget(baseline, filesPerSecond, caseToAllocatedBytes);
+		}
+	}
+
+	private Properties loadBaseline() throws IOException {
+		var baseline = new Properties();
+		try (var is = new ClassPathResource(BASELINE).getInputStream()) {
+			baseline.load(is);
+		}
+		return baseline;
+	}
+
+	private long getAllocatedBytes() {
+		return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private JavaRefactorer makeRefactorer() {
+		var engineProperties = CleanthatEngineProperties.builder()
+				.engine("java")
+				.engineVersion(IJdkVersionConstants.LAST)
+				.sourceCode(SourceCodeProperties.defaultRoot())
+				.build();
+
+		var properties = new JavaRefactorerProperties();
+		properties.setIncludeDraft(true);
+		properties.setMutators(Arrays.asList(AllIncludingDraftSingleMutators.class.getName()));
+
+		return new JavaRefactorer(engineProperties, properties);
+	}
+
+	/**
+	 *
+	 * @return each test-case, turned into a standalone compilation unit, by caseId
+	 */
+	private Map<String, String> loadCorpus() throws IOException {
+		var casesRoot = LocalClassTestHelper.getProjectTestSourceCode()
+				.resolve(JavaRefactorer.class.getPackageName().replace('.', '/'))
+				.resolve("cases/do_not_format_me");
+
+		var javaParser = JavaRefactorer.makeDefaultJavaParser(JavaRefactorer.JAVAPARSER_JRE_ONLY);
+
+		Map<String, String> caseToSourceCode = new TreeMap<>();
+		List<Path> casesFiles;
+		try (Stream<Path> stream = Files.walk(casesRoot)) {
+			casesFiles = stream.filter(p -> p.getFileName().toString().matches("Test.*Cases\\.java"))
+					.sorted()
+					.collect(Collectors.toList());
+		}
+
+		for (Path casesFile : casesFiles) {
+			var optCompilationUnit = javaParser.parse(casesFile).getResult();
+			if (optCompilationUnit.isEmpty()) {
+				LOGGER.warn("Discarding {} as it is not parseable", casesFile);
+				continue;
+			}
+			var compilationUnit = optCompilationUnit.get();
+			var casesName = casesFile.getFileName().toString().replace(".java", "");
+
+			ATestCases.getAllCases(compilationUnit)
+					.forEach(oneCase -> caseToSourceCode.put(casesName + "." + oneCase.getNameAsString(),
+							toStandalone(compilationUnit, oneCase)));
+		}
+
+		LOGGER.info("Loaded {} cases from {} files", caseToSourceCode.size(), casesFiles.size());
+		return caseToSourceCode;
+	}
+
+	private static String toStandalone(CompilationUnit compilationUnit, ClassOrInterfaceDeclaration oneCase) {
+		var standalone = new CompilationUnit();
+
+		compilationUnit.getPackageDeclaration().ifPresent(p -> standalone.setPackageDeclaration(p.clone()));
+		compilationUnit.getImports().forEach(i -> standalone.addImport(i.clone()));
+
+		var topLevel = oneCase.clone();
+		topLevel.removeModifier(Modifier.Keyword.STATIC);
+		standalone.addType(topLevel);
+
+		return standalone.toString();
+	}
+
+	private void recordBaseline(double filesPerSecond, Map<String, Long> caseToAllocatedBytes) throws IOException {
+		List<String> lines = new ArrayList<>();
+		lines.add("# Recorded by " + ITRefactorerThroughput.class.getSimpleName());
+		lines.add(KEY_FILES_PER_SECOND + "=" + (long) filesPerSecond);
+		caseToAllocatedBytes.forEach((caseId, bytes) -> lines.add(caseId + SUFFIX_ALLOCATED_BYTES + "=" + bytes));
+
+		var recorded = Paths.get("target").resolve(BASELINE).toAbsolutePath();
+		Files.createDirectories(recorded.getParent());
+		Files.write(recorded, lines);
+		LOGGER.info("Baseline recorded into {}", recorded);
+	}
+
+	private void checkBudget(Properties baseline, double filesPerSecond, Map<String, Long> caseToAllocatedBytes) {
+		var budget = Double.parseDouble(System.getProperty(KEY_BUDGET, DEFAULT_BUDGET));
+
+		List<String> overBudget = new ArrayList<>();
+
+		var baselineFilesPerSecond = baseline.getProperty(KEY_FILES_PER_SECOND);
+		if (baselineFilesPerSecond != null && filesPerSecond * budget < Double.parseDouble(baselineFilesPerSecond)) {
+			overBudget.add(KEY_FILES_PER_SECOND + ": " + (long) filesPerSecond + " vs " + baselineFilesPerSecond);
+		}
+
+		var nbNotInBaseline = 0;
+		for (Map.Entry<String, Long> oneCase : caseToAllocatedBytes.entrySet()) {
+			var baselineBytes = baseline.getProperty(oneCase.getKey() + SUFFIX_ALLOCATED_BYTES);
+
+			if (baselineBytes == null) {
+				nbNotInBaseline++;
+			} else if (oneCase.getValue() > budget * Long.parseLong(baselineBytes)) {
+				overBudget.add(oneCase.getKey() + ": " + oneCase.getValue() + " bytes vs " + baselineBytes);
+			}
+		}
+
+		if (nbNotInBaseline > 0) {
+			LOGGER.warn("{} cases are not in the baseline (out of {}). Consider recording it with -D{}=true",
+					nbNotInBaseline,
+					caseToAllocatedBytes.size(),
+					KEY_RECORD);
+		}
+
+		Assertions.assertThat(overBudget).as("Over budget=%s relative to the baseline", budget).isEmpty();
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer.mutators.scanner;
+
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.codehaus.plexus.languages.java.version.JavaVersion;
+import org.junit.Test;
+
+import eu.solven.cleanthat.engine.java.IJdkVersionConstants;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.LiteralsFirstInComparisons;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.UseDiamondOperator;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.AllIncludingDraftSingleMutators;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.PMDMutators;
+
+public class TestMutatorsRegistry {
+	final MutatorsRegistry registry = MutatorsRegistry.getInstance();
+
+	@Test
+	public void testSameAsAllIncludingDraft() {
+		var allSingles = new AllIncludingDraftSingleMutators(JavaVersion.parse(IJdkVersionConstants.LAST));
+
+		Assertions.assertThat(registry.getSingleIds()).isEqualTo(allSingles.getUnderlyingIds());
+		Assertions.assertThat(registry.getSingles()).map(MutatorDescriptor::getMutatorClass)
+				.containsExactlyElementsOf(
+						allSingles.getUnderlyings().stream().map(m -> m.getClass()).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testByIdOrClassName() {
+		var byClassName = registry.getByIdOrClassName(LiteralsFirstInComparisons.class.getName());
+		Assertions.assertThat(byClassName).hasSize(1);
+
+		var descriptor = byClassName.get(0);
+		Assertions.assertThat(registry.getByIdOrClassName(new LiteralsFirstInComparisons().getCleanthatId()))
+				.contains(descriptor);
+		Assertions.assertThat(descriptor.isComposite()).isFalse();
+		Assertions.assertThat(descriptor.isDraft()).isEqualTo(new LiteralsFirstInComparisons().isDraft());
+
+		Assertions.assertThat(registry.getByIdOrClassName(PMDMutators.class.getName()))
+				.singleElement()
+				.matches(MutatorDescriptor::isComposite);
+	}
+
+	@Test
+	public void testCompatibility() {
+		var descriptor = registry.getByIdOrClassName(UseDiamondOperator.class.getName()).get(0);
+
+		Assertions.assertThat(descriptor.isCompatible(JavaVersion.parse(IJdkVersionConstants.JDK_5))).isFalse();
+		Assertions.assertThat(descriptor.isCompatible(JavaVersion.parse(IJdkVersionConstants.LAST))).isTrue();
+		Assertions.assertThat(descriptor.instantiate(JavaVersion.parse(IJdkVersionConstants.LAST)))
+				.isInstanceOf(UseDiamondOperator.class);
+	}
+}
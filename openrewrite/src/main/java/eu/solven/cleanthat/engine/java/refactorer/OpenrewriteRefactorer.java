@@ -65,6 +65,11 @@ public class OpenrewriteRefactorer extends AAstRefactorer<SourceFile, JavaParser
 		return "openrewrite";
 	}
 
+	@Override
+	protected String getEngine() {
+		return "openrewrite";
+	}
+
 	@Override
 	protected JavaParser makeAstParser() {
 		// determine your project directory and provide a list of
@@ -48,7 +48,7 @@ import eu.solven.cleanthat.engine.java.refactorer.annotations.UnmodifiedMethod;
 @SuppressWarnings({ "PMD.CouplingBetweenObjects", "PMD.GodClass" })
 public abstract class ATestCases<N, R> implements IAstTestHelper<N, R> {
 
-	protected static List<ClassOrInterfaceDeclaration> getAllCases(CompilationUnit compilationUnit) {
+	public static List<ClassOrInterfaceDeclaration> getAllCases(CompilationUnit compilationUnit) {
 		return compilationUnit.findAll(ClassOrInterfaceDeclaration.class,
 				c -> c.getAnnotationByClass(CompareTypes.class).isPresent()
 						|| c.getAnnotationByClass(CompareMethods.class).isPresent()
@@ -17,12 +17,18 @@ package eu.solven.cleanthat.engine.java.refactorer;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,7 +37,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Strings;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.AtomicLongMap;
 
 import eu.solven.cleanthat.engine.java.IJdkVersionConstants;
 import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
@@ -40,9 +50,12 @@ import eu.solven.cleanthat.engine.java.refactorer.meta.IWalkingMutator;
 import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.AllIncludingDraftCompositeMutators;
 import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.AllIncludingDraftSingleMutators;
 import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.CompositeMutator;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.scanner.MutatorsRegistry;
 import eu.solven.cleanthat.formatter.ILintFixerWithId;
+import eu.solven.cleanthat.formatter.ILintFixerWithMetrics;
 import eu.solven.cleanthat.formatter.ILintFixerWithPath;
 import eu.solven.cleanthat.formatter.PathAndContent;
+import eu.solven.cleanthat.jfr.ParseEvent;
 import eu.solven.cleanthat.language.IEngineProperties;
 
 /**
@@ -54,13 +67,29 @@ import eu.solven.cleanthat.language.IEngineProperties;
 // https://github.com/revelc/formatter-maven-plugin/blob/master/src/main/java/net/revelc/code/formatter/java/JavaFormatter.java
 @SuppressWarnings("PMD.GenericsNaming")
 public abstract class AAstRefactorer<AST, P, R, M extends IWalkingMutator<AST, R>>
-		implements ILintFixerWithId, ILintFixerWithPath {
+		implements ILintFixerWithId, ILintFixerWithPath, ILintFixerWithMetrics {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AAstRefactorer.class);
 
-	private static final int MAX_REAPPLY = 10;
-
 	private final List<M> mutators;
 
+	final MutatorsMetrics metrics = new MutatorsMetrics();
+
+	// The number of processed files, by configured and effective VerificationLevel
+	final AtomicLongMap<String> verificationCounters = AtomicLongMap.create();
+
+	// Lazy, as `getRawMutators()` may be overridden by a constructor of a subclass
+	private final Supplier<TriggerTokensMatcher> triggerTokensMatcher = Suppliers.memoize(() -> {
+		Set<String> tokens = new TreeSet<>();
+		getRawMutators().forEach(mutator -> tokens.addAll(mutator.getTriggerTokens()));
+		return new TriggerTokensMatcher(tokens);
+	});
+
+	// Lazy, as `getRawMutators()` may be overridden by a constructor of a subclass
+	private final Supplier<MutatorsScheduler<M>> scheduler = Suppliers.memoize(() -> {
+		List<M> rawMutators = ImmutableList.copyOf(getRawMutators());
+		return new MutatorsScheduler<>(rawMutators, makeEnabledBy(rawMutators));
+	});
+
 	public AAstRefactorer(List<M> mutators) {
 		this.mutators = ImmutableList.copyOf(mutators);
 
@@ -75,22 +104,461 @@ public abstract class AAstRefactorer<AST, P, R, M extends IWalkingMutator<AST, R
 		return mutators;
 	}
 
+	/**
+	 * 
+	 * @return the metrics (e.g. {@link MutatorsMetrics#KEY_WALL_TIME_NANOS}) of each mutator, by mutator id.
+	 */
+	public Map<String, Map<String, Long>> getMutatorsMetrics() {
+		return metrics.snapshot(getRawMutators());
+	}
+
+	@Override
+	public Map<String, Long> getMetrics() {
+		Map<String, Long> flatMetrics = new TreeMap<>();
+
+		getMutatorsMetrics().forEach((mutatorId, counters) -> counters
+				.forEach((key, value) -> flatMetrics.put(mutatorId + "." + key, value)));
+
+		// e.g. `verification.SAMPLED.OFF`
+		verificationCounters.asMap().forEach((key, value) -> flatMetrics.put("verification." + key, value));
+
+		return flatMetrics;
+	}
+
 	public static <AST, P> Optional<AST> parse(AAstRefactorer<AST, P, ?, ?> refactorer, String sourceCode) {
 		var parser = refactorer.makeAstParser();
 
 		return refactorer.parseSourceCode(parser, sourceCode);
 	}
 
+	/**
+	 * 
+	 * @return the engine (e.g. `javaparser`) this refactorer is a step of.
+	 */
+	protected abstract String getEngine();
+
 	protected abstract P makeAstParser();
 
 	protected abstract Optional<AST> parseSourceCode(P parser, String sourceCode);
 
+	/**
+	 * The AST returned by this method is only walked: it may not be ready to be printed, as most files are not mutated.
+	 * If a mutator mutates such an AST, the source code is parsed again with {@link #parseSourceCode(Object, String)}
+	 * and the mutator is applied again.
+	 *
+	 * @param parser
+	 * @param sourceCode
+	 * @return an AST which may not be printable. By default, this is a printable AST.
+	 */
+	protected Optional<AST> parseSourceCodeToWalk(P parser, String sourceCode) {
+		return parseSourceCode(parser, sourceCode);
+	}
+
+	/**
+	 *
+	 * @param ast
+	 * @return true if given AST can be printed after being mutated (e.g. it has been parsed by
+	 *         {@link #parseSourceCode(Object, String)}).
+	 */
+	protected boolean isPrintable(AST ast) {
+		return true;
+	}
+
+	/**
+	 * 
+	 * @param ast
+	 * @return true if given AST may be inconsistent (e.g. some changes of a rejected mutation could not be reverted). It
+	 *         has then to be discarded.
+	 */
+	protected boolean isCorrupted(AST ast) {
+		return false;
+	}
+
+	/**
+	 * Enables a not printable AST to be made printable in place, right before its first mutation. This prevents parsing
+	 * again and walking again the source code of each mutated AST.
+	 * 
+	 * @param ast
+	 *            a not printable AST (see {@link #isPrintable(Object)})
+	 * @param sourceCode
+	 *            the source code from which given AST has been parsed
+	 */
+	protected void makePrintableOnFirstMutation(AST ast, String sourceCode) {
+		// By default, a mutated AST which is not printable is parsed again into a printable AST
+	}
+
+	/**
+	 * Records given parsing as a {@link ParseEvent}.
+	 * 
+	 * @param sourceCode
+	 *            the parsed source code, which may have been mutated from the content of given {@link PathAndContent}
+	 */
+	Optional<AST> recordParse(PathAndContent pathAndContent,
+			String sourceCode,
+			VerificationLevel verification,
+			Supplier<Optional<AST>> parsing) {
+		var event = new ParseEvent();
+		event.begin();
+		try {
+			Optional<AST> optAst = parsing.get();
+			optAst.ifPresent(ast -> {
+				PathAndContent parsedPathAndContent;
+				if (pathAndContent.getChangedLines().isPresent()) {
+					// The changed lines refer to the original content: they are remapped to the parsed source code
+					parsedPathAndContent = pathAndContent.withContent(sourceCode);
+				} else {
+					parsedPathAndContent = pathAndContent;
+				}
+				onParsed(ast, parsedPathAndContent, verification);
+			});
+			return optAst;
+		} finally {
+			event.endAndCommit(pathAndContent.getPath(), getEngine(), getId(), null, sourceCode);
+		}
+	}
+
+	/**
+	 * Called on each parsed AST. It enables the mutators to adjust their own verifications (e.g. the idempotency
+	 * checks) to the {@link VerificationLevel} of the file, and to restrict themselves to
+	 * {@link PathAndContent#getChangedLines()}.
+	 * 
+	 * @param ast
+	 * @param pathAndContent
+	 *            the parsed content. Its changed lines refer to the parsed content, even if it has been mutated from
+	 *            the original content.
+	 * @param verification
+	 *            the {@link VerificationLevel} of the file. It is never {@link VerificationLevel#SAMPLED}.
+	 */
+	protected void onParsed(AST ast, PathAndContent pathAndContent, VerificationLevel verification) {
+		// By default, the mutators have no verification to adjust, and always process the whole AST
+	}
+
+	/**
+	 * 
+	 * @return the {@link VerificationLevel} of the mutations. By default, each mutation is verified.
+	 */
+	protected VerificationLevel getVerificationLevel() {
+		return VerificationLevel.PARANOID;
+	}
+
+	/**
+	 * 
+	 * @return the N of {@link VerificationLevel#SAMPLED}, verifying 1 file out of N.
+	 */
+	protected int getVerificationSampling() {
+		return JavaRefactorerProperties.DEFAULT_VERIFICATION_SAMPLING;
+	}
+
 	@Override
 	public String doFormat(PathAndContent pathAndContent) throws IOException {
 		return doFormat(pathAndContent.getContent());
 	}
 
+	/**
+	 * 
+	 * @return true if the AST should be kept across mutators, being printed and validated only once.
+	 */
+	protected boolean isLiveAst() {
+		return false;
+	}
+
+	/**
+	 * 
+	 * @return the wall-clock budget, in milliseconds, of a single mutator walking the AST of a single file. On
+	 *         exceeding it, the walk stops early. 0 means no budget.
+	 */
+	protected long getMutatorBudgetMs() {
+		return 0L;
+	}
+
+	/**
+	 * Called when the AST has been mutated, while it is kept across mutators. It enables refreshing some caches (e.g.
+	 * related to symbol resolution), instead of parsing again the code.
+	 * 
+	 * @param ast
+	 */
+	protected void onLiveAstMutated(AST ast) {
+		// By default, there is no cache to refresh
+	}
+
+	/**
+	 * 
+	 * @param mutators
+	 *            all the mutators which may be applied
+	 * @return a {@link Function} giving the mutators which may trigger after a successful application of given mutator.
+	 *         By default, only an {@link IReApplyUntilNoop} enables itself.
+	 */
+	protected Function<M, Collection<M>> makeEnabledBy(List<M> mutators) {
+		return mutator -> {
+			if (mutator instanceof IReApplyUntilNoop) {
+				return List.of(mutator);
+			} else {
+				return List.of();
+			}
+		};
+	}
+
+	/**
+	 * 
+	 * @param content
+	 * @return the mutators which may trigger on given content, given their {@link IMutator#getTriggerTokens()}.
+	 */
+	protected List<M> getTriggerableMutators(String content) {
+		return getTriggerableMutators(content, getRawMutators());
+	}
+
+	private List<M> getTriggerableMutators(String content, Iterable<M> candidates) {
+		var presentTokens = triggerTokensMatcher.get().findPresent(content);
+
+		List<M> triggerableMutators = new ArrayList<>();
+		candidates.forEach(mutator -> {
+			if (TriggerTokensMatcher.mayTrigger(mutator, presentTokens)) {
+				triggerableMutators.add(mutator);
+			} else {
+				LOGGER.trace("{} is skipped as none of its trigger tokens is present", mutator);
+			}
+		});
+		return triggerableMutators;
+	}
+
+	/**
+	 * A mutator may introduce the trigger tokens of a later mutator (e.g. a `.length() == 0` turned into `.isEmpty()`
+	 * by a previous mutator): the present tokens are then re-evaluated each time the content changed.
+	 * 
+	 * @param currentContent
+	 *            the content over which the next mutator would be applied
+	 * @return a {@link Predicate} telling if given mutator may trigger over the current content.
+	 */
+	private Predicate<M> makeMayTrigger(Supplier<String> currentContent) {
+		AtomicReference<String> refScannedContent = new AtomicReference<>();
+		AtomicReference<Set<String>> refPresentTokens = new AtomicReference<>();
+
+		return mutator -> {
+			var content = currentContent.get();
+			if (!content.equals(refScannedContent.get())) {
+				refPresentTokens.set(triggerTokensMatcher.get().findPresent(content));
+				refScannedContent.set(content);
+			}
+
+			if (TriggerTokensMatcher.mayTrigger(mutator, refPresentTokens.get())) {
+				return true;
+			} else {
+				LOGGER.trace("{} is skipped as none of its trigger tokens is present", mutator);
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Detects which mutators would trigger over given content, without producing any output: the result is neither
+	 * printed nor validated, and each mutator stops walking on its first match.
+	 * 
+	 * @param pathAndContent
+	 * @param firstPerFile
+	 *            if true, the detection stops on the first matching mutator.
+	 * @return the {@link MutatorFinding}s, at most one per configured mutator.
+	 */
+	public List<MutatorFinding> detect(PathAndContent pathAndContent, boolean firstPerFile) {
+		var content = pathAndContent.getContent();
+		var path = pathAndContent.getPath();
+
+		// The configured mutators, as a finding should refer to a single mutator (e.g. not a fused one)
+		List<M> triggerableMutators = getTriggerableMutators(content, mutators);
+		if (triggerableMutators.isEmpty()) {
+			LOGGER.debug("No mutator may trigger over path={}", path);
+			return List.of();
+		}
+
+		var parser = makeAstParser();
+
+		// The AST is parsed again only if a detection left it mutated
+		AtomicReference<AST> refCompilationUnit = new AtomicReference<>();
+
+		List<MutatorFinding> findings = new ArrayList<>();
+		for (M mutator : triggerableMutators) {
+			if (refCompilationUnit.get() == null) {
+				Optional<AST> optCompilationUnit;
+				try {
+					optCompilationUnit = recordParse(pathAndContent,
+							content,
+							VerificationLevel.OFF,
+							() -> parseSourceCodeToWalk(parser, content));
+				} catch (RuntimeException e) {
+					throw new IllegalArgumentException("Issue parsing the code", e);
+				}
+				if (optCompilationUnit.isEmpty()) {
+					LOGGER.warn("Not able to parse path='{}' with {}", path, parser);
+					return List.of();
+				}
+				refCompilationUnit.set(optCompilationUnit.get());
+			}
+
+			Optional<MutatorFinding> optFinding = detectFirst(parser, pathAndContent, refCompilationUnit, mutator);
+			if (optFinding.isPresent()) {
+				metrics.increment(mutator, MutatorsMetrics.KEY_NB_DETECTIONS);
+				findings.add(optFinding.get());
+
+				if (firstPerFile) {
+					break;
+				}
+			}
+		}
+
+		return findings;
+	}
+
+	/**
+	 * By default, the mutator is fully applied over the AST, which is then discarded. Implementations may stop on the
+	 * first match, and locate it.
+	 * 
+	 * @param parser
+	 * @param pathAndContent
+	 * @param refCompilationUnit
+	 *            holds the AST to walk. It has to be reset to null if the AST is left mutated.
+	 * @param mutator
+	 * @return a {@link MutatorFinding} if given mutator matches given AST.
+	 */
+	protected Optional<MutatorFinding> detectFirst(P parser,
+			PathAndContent pathAndContent,
+			AtomicReference<AST> refCompilationUnit,
+			M mutator) {
+		AstRefactorerInstance<AST, P, R> instance = new AstRefactorerInstance<AST, P, R>(this,
+				parser,
+				mutator,
+				pathAndContent,
+				VerificationLevel.OFF,
+				refCompilationUnit,
+				new AtomicBoolean(),
+				new AtomicBoolean());
+
+		Optional<R> optResult = instance.walkAst(refCompilationUnit.get());
+		if (optResult.isEmpty()) {
+			// The AST may have been discarded (e.g. if the mutator exceeded its budget)
+			var ast = refCompilationUnit.get();
+			if (ast != null && isCorrupted(ast)) {
+				// The AST can not be walked by next mutators
+				refCompilationUnit.set(null);
+			}
+			return Optional.empty();
+		}
+
+		refCompilationUnit.set(null);
+		return Optional.of(MutatorFinding.unlocated(mutator, pathAndContent.getPath()));
+	}
+
 	protected String applyTransformers(PathAndContent pathAndContent) {
+		if (getTriggerableMutators(pathAndContent.getContent()).isEmpty()) {
+			// Skip parsing the content, as no mutator would trigger
+			LOGGER.debug("No mutator may trigger over path={}", pathAndContent.getPath());
+			return pathAndContent.getContent();
+		}
+
+		// All mutators are scheduled, as the trigger tokens are re-evaluated after each mutation
+		List<M> mutatorsToApply = ImmutableList.copyOf(getRawMutators());
+
+		var configuredVerification = getVerificationLevel();
+		var verification = configuredVerification.forPath(pathAndContent.getPath(), getVerificationSampling());
+		verificationCounters.incrementAndGet(configuredVerification + "." + verification);
+
+		if (isLiveAst()) {
+			Optional<String> optCleanCode = applyTransformersOnLiveAst(pathAndContent, mutatorsToApply, verification);
+			if (optCleanCode.isPresent()) {
+				return optCleanCode.get();
+			}
+
+			LOGGER.info("Invalid code over path={}. Mutators are re-applied one by one to find the culprit",
+					pathAndContent.getPath());
+			return applyTransformersOneByOne(pathAndContent, mutatorsToApply, VerificationLevel.PARANOID);
+		}
+
+		return applyTransformersOneByOne(pathAndContent, mutatorsToApply, verification);
+	}
+
+	/**
+	 * The AST is parsed once, mutated by all mutators, and then printed and validated once.
+	 * 
+	 * @param pathAndContent
+	 * @param triggerableMutators
+	 * @param verification
+	 * @return the clean code, or empty if the final code is not valid.
+	 */
+	protected Optional<String> applyTransformersOnLiveAst(PathAndContent pathAndContent,
+			List<M> triggerableMutators,
+			VerificationLevel verification) {
+		var dirtyCode = pathAndContent.getContent();
+		var path = pathAndContent.getPath();
+
+		var parser = makeAstParser();
+
+		Optional<AST> optCompilationUnit;
+		try {
+			optCompilationUnit =
+					recordParse(pathAndContent, dirtyCode, verification, () -> parseSourceCodeToWalk(parser, dirtyCode));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Issue parsing the code", e);
+		}
+		if (optCompilationUnit.isEmpty()) {
+			LOGGER.warn("Not able to parse path='{}' with {}", path, parser);
+			return Optional.of(dirtyCode);
+		}
+		// The AST is replaced by a printable AST on the first mutation
+		AtomicReference<AST> refCompilationUnit = new AtomicReference<>(optCompilationUnit.get());
+
+		AtomicReference<R> refLastResult = new AtomicReference<>();
+		// The live AST is not printed after each mutation: once mutated, the trigger tokens are not checked anymore
+		var mayTriggerOnDirtyCode = makeMayTrigger(() -> dirtyCode);
+		scheduler.get().applyUntilFixpoint(triggerableMutators, ct -> {
+			if (refCompilationUnit.get() == null) {
+				// The live AST has been discarded
+				return false;
+			} else if (refLastResult.get() == null && !mayTriggerOnDirtyCode.test(ct)) {
+				return false;
+			}
+
+			AstRefactorerInstance<AST, P, R> instance = new AstRefactorerInstance<AST, P, R>(this,
+					parser,
+					ct,
+					pathAndContent,
+					verification,
+					refCompilationUnit,
+					new AtomicBoolean(),
+					new AtomicBoolean());
+
+			Optional<R> optResult = instance.walkPrintableAst(dirtyCode);
+			if (optResult.isPresent()) {
+				// The live AST is validated only once all mutators are applied
+				metrics.increment(ct, MutatorsMetrics.KEY_NB_MUTATIONS);
+				refLastResult.set(optResult.get());
+				onLiveAstMutated(refCompilationUnit.get());
+				return true;
+			} else {
+				return false;
+			}
+		});
+
+		if (refCompilationUnit.get() == null) {
+			// The live AST has been discarded (e.g. corrupted, or holding the mutations of a mutator over its budget):
+			// the mutators are re-applied one by one
+			return Optional.empty();
+		}
+
+		var lastResult = refLastResult.get();
+		if (lastResult == null) {
+			// No mutator changed anything
+			return Optional.of(dirtyCode);
+		}
+
+		var resultAsString = toString(lastResult);
+		if (!verification.isValidatingResult() || isValidResultString(parser, resultAsString)) {
+			return Optional.of(resultAsString);
+		} else {
+			return Optional.empty();
+		}
+	}
+
+	protected String applyTransformersOneByOne(PathAndContent pathAndContent,
+			List<M> triggerableMutators,
+			VerificationLevel verification) {
 		AtomicReference<String> refCleanCode = new AtomicReference<>(pathAndContent.getContent());
 
 		// Ensure we compute the compilation-unit only once per String
@@ -103,35 +571,36 @@ public abstract class AAstRefactorer<AST, P, R, M extends IWalkingMutator<AST, R
 
 		var path = pathAndContent.getPath();
 
-		// TODO What if mutators are applied in order `A->B` but `A` could give good results after `B` being applied?
-		getRawMutators().forEach(ct -> {
-			int maxNbApply;
-			if (ct instanceof IReApplyUntilNoop) {
-				// Prevent any infinite loop
-				maxNbApply = MAX_REAPPLY;
-			} else {
-				maxNbApply = 1;
+		var mayTrigger = makeMayTrigger(refCleanCode::get);
+
+		// A mutator `A` may give good results after `B` being applied: it is then re-applied if `B` enables it
+		scheduler.get().applyUntilFixpoint(triggerableMutators, ct -> {
+			if (!mayTrigger.test(ct)) {
+				return false;
 			}
 
 			AstRefactorerInstance<AST, P, R> instance = new AstRefactorerInstance<AST, P, R>(this,
 					parser,
 					ct,
+					pathAndContent,
+					verification,
 					refCompilationUnit,
 					firstMutator,
 					inputIsBroken);
 
-			for (var i = 0; i < maxNbApply; i++) {
-				boolean appliedWithChange =
-						instance.applyOneMutator(refCleanCode, refCompilationUnit, firstMutator, inputIsBroken, path);
-				if (appliedWithChange) {
-					LOGGER.debug("Effective change after iteration={}", i);
-				} else {
-					LOGGER.debug("No more change after iteration={}", i);
-					break;
-				}
-			}
+			return instance.applyOneMutator(refCleanCode, refCompilationUnit, firstMutator, inputIsBroken, path);
 		});
-		return refCleanCode.get();
+
+		var cleanCode = refCleanCode.get();
+		if (verification == VerificationLevel.FINAL_ONLY && !cleanCode.equals(pathAndContent.getContent())
+				&& !isValidResultString(parser, cleanCode)) {
+			LOGGER.info("Invalid code over path={}. Mutators are re-applied with verification={} to find the culprit",
+					path,
+					VerificationLevel.PARANOID);
+			return applyTransformersOneByOne(pathAndContent, triggerableMutators, VerificationLevel.PARANOID);
+		}
+
+		return cleanCode;
 	}
 
 	protected abstract boolean isValidResultString(P parser, String resultAsString);
@@ -155,28 +624,7 @@ public abstract class AAstRefactorer<AST, P, R, M extends IWalkingMutator<AST, R
 			List<String> includedRules,
 			List<String> excludedRules,
 			boolean includeDraft) {
-		var allSingleMutators =
-				new AllIncludingDraftSingleMutators(JavaVersion.parse(IJdkVersionConstants.LAST)).getUnderlyings();
-		List<? extends IMutator> allCompositeMutators =
-				new AllIncludingDraftCompositeMutators(JavaVersion.parse(IJdkVersionConstants.LAST)).getUnderlyings();
-
-		Set<String> allSingleIds = allSingleMutators.stream()
-				.flatMap(m -> m.getIds().stream())
-				.collect(Collectors.toCollection(TreeSet::new));
-		Set<String> allCompositeIds = allCompositeMutators.stream()
-				.flatMap(m -> m.getIds().stream())
-				.collect(Collectors.toCollection(TreeSet::new));
-
-		var compatibleSingleMutators = new AllIncludingDraftSingleMutators(sourceCodeVersion).getUnderlyings();
-		List<? extends IMutator> compatibleCompositeMutators =
-				new AllIncludingDraftCompositeMutators(sourceCodeVersion).getUnderlyings();
-
-		Set<String> compatibleSingleIds = compatibleSingleMutators.stream()
-				.flatMap(m -> m.getIds().stream())
-				.collect(Collectors.toCollection(TreeSet::new));
-		Set<String> compatibleCompositeIds = compatibleCompositeMutators.stream()
-				.flatMap(m -> m.getIds().stream())
-				.collect(Collectors.toCollection(TreeSet::new));
+		var registry = MutatorsRegistry.getInstance();
 
 		var mutatorsMayComposite = includedRules.stream().flatMap(includedRule -> {
 			if (JavaRefactorerProperties.WILDCARD.equals(includedRule)) {
@@ -186,12 +634,11 @@ public abstract class AAstRefactorer<AST, P, R, M extends IWalkingMutator<AST, R
 						AllIncludingDraftSingleMutators.class.getSimpleName());
 				// We suppose there is no mutator from Composite which is not a single mutator
 				// Hence we return all single mutators
-				return compatibleSingleMutators.stream();
+				return MutatorsRegistry.instantiateCompatible(sourceCodeVersion, registry.getSingles()).stream();
 			} else {
+				var matchingDescriptors = registry.getByIdOrClassName(includedRule);
 				List<IMutator> matchingMutators =
-						Stream.concat(compatibleSingleMutators.stream(), compatibleCompositeMutators.stream())
-								.filter(someMutator -> isAcceptedMutator(includedRule, someMutator))
-								.collect(Collectors.toList());
+						MutatorsRegistry.instantiateCompatible(sourceCodeVersion, matchingDescriptors);
 
 				if (!matchingMutators.isEmpty()) {
 					return matchingMutators.stream();
@@ -203,7 +650,7 @@ public abstract class AAstRefactorer<AST, P, R, M extends IWalkingMutator<AST, R
 					return optFromClassName.stream();
 				}
 
-				if (allSingleIds.contains(includedRule) || allCompositeIds.contains(includedRule)) {
+				if (!matchingDescriptors.isEmpty()) {
 					LOGGER.warn(
 							"includedMutator={} matches some mutators, but not compatible with sourceCodeVersion={}",
 							includedRule,
@@ -213,8 +660,8 @@ public abstract class AAstRefactorer<AST, P, R, M extends IWalkingMutator<AST, R
 							"includedMutator={} did not match any compatible mutator (sourceCodeVersion={}) singleIds={} compositeIds={}",
 							includedRule,
 							sourceCodeVersion,
-							compatibleSingleIds,
-							compatibleCompositeIds);
+							registry.getSingleIds(),
+							registry.getCompositeIds());
 				}
 
 				return Stream.empty();
@@ -225,9 +672,10 @@ public abstract class AAstRefactorer<AST, P, R, M extends IWalkingMutator<AST, R
 		var mutatorsNotComposite = unrollCompositeMutators(mutatorsMayComposite);
 
 		// TODO '.distinct()' to handle multiple composites bringing the same mutator
+		Set<String> excludedRulesAsSet = ImmutableSet.copyOf(excludedRules);
 		return mutatorsNotComposite.stream().filter(mutator -> {
-			var isExcluded = excludedRules.contains(mutator.getClass().getName())
-					|| excludedRules.stream().anyMatch(mutator.getIds()::contains);
+			var isExcluded = excludedRulesAsSet.contains(mutator.getClass().getName())
+					|| mutator.getIds().stream().anyMatch(excludedRulesAsSet::contains);
 
 			// debug as it seems Spotless instantiate this quite often / for each file
 			if (isExcluded) {
@@ -250,16 +698,6 @@ public abstract class AAstRefactorer<AST, P, R, M extends IWalkingMutator<AST, R
 
 	}
 
-	private static boolean isAcceptedMutator(String includedRule, IMutator someMutator) {
-		if (someMutator.getIds().contains(includedRule)) {
-			return true;
-		} else if (someMutator.getClass().getName().equals(includedRule)) {
-			// We allow loading any rule, from a custom dependency
-			return true;
-		}
-		return false;
-	}
-
 	private static Optional<IMutator> loadMutatorFromClass(JavaVersion sourceCodeVersion, String includedRule) {
 		try {
 			// https://www.baeldung.com/java-check-class-exists
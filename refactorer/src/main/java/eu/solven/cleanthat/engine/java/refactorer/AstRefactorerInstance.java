@@ -25,6 +25,10 @@ import org.slf4j.LoggerFactory;
 
 import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
 import eu.solven.cleanthat.engine.java.refactorer.meta.IWalkingMutator;
+import eu.solven.cleanthat.formatter.PathAndContent;
+import eu.solven.cleanthat.formatter.TimeBudget;
+import eu.solven.cleanthat.formatter.TimeBudgetExceededException;
+import eu.solven.cleanthat.jfr.MutateEvent;
 
 /**
  * This hold the logic of applying a single {@link IMutator}
@@ -38,6 +42,9 @@ class AstRefactorerInstance<AST, P, R> {
 	final AAstRefactorer<AST, P, R, ? extends IWalkingMutator<AST, R>> astRefactorer;
 	final P parser;
 	final IWalkingMutator<AST, R> mutator;
+	final PathAndContent pathAndContent;
+	final Path path;
+	final VerificationLevel verification;
 
 	final AtomicReference<AST> refCompilationUnit;
 	final AtomicBoolean firstMutator;
@@ -46,12 +53,17 @@ class AstRefactorerInstance<AST, P, R> {
 	AstRefactorerInstance(AAstRefactorer<AST, P, R, ? extends IWalkingMutator<AST, R>> astRefactorer,
 			P parser,
 			IWalkingMutator<AST, R> ct,
+			PathAndContent pathAndContent,
+			VerificationLevel verification,
 			AtomicReference<AST> refCompilationUnit,
 			AtomicBoolean firstMutator,
 			AtomicBoolean inputIsBroken) {
 		this.astRefactorer = astRefactorer;
 		this.mutator = ct;
 		this.parser = parser;
+		this.pathAndContent = pathAndContent;
+		this.path = pathAndContent.getPath();
+		this.verification = verification;
 
 		this.refCompilationUnit = refCompilationUnit;
 		this.firstMutator = firstMutator;
@@ -84,18 +96,7 @@ class AstRefactorerInstance<AST, P, R> {
 			return false;
 		}
 
-		Optional<R> walkNodeResult;
-		try {
-			walkNodeResult = mutator.walkAst(compilationUnit);
-		} catch (RuntimeException | StackOverflowError e) {
-			// StackOverflowError may come from Javaparser
-			// e.g. https://github.com/javaparser/javaparser/issues/3940
-			if (mutator.toString().contains("UseExplicitTypes")) {
-				throw e;
-			} else {
-				throw new IllegalArgumentException("Issue with mutator: " + mutator, e);
-			}
-		}
+		Optional<R> walkNodeResult = walkPrintableAst(refCleanCode.get());
 
 		boolean appliedWithChange;
 
@@ -108,22 +109,27 @@ class AstRefactorerInstance<AST, P, R> {
 
 			// One relevant change: building source-code from the AST
 			var resultAsString = astRefactorer.toString(walkNodeResult.get());
-			if (astRefactorer.isValidResultString(parser, resultAsString)) {
+			if (!verification.isValidatingEachMutator() || astRefactorer.isValidResultString(parser, resultAsString)) {
 				if (refCleanCode.get().equals(resultAsString)) {
 
 					appliedWithChange = false;
 				} else {
 					refCleanCode.set(resultAsString);
 					appliedWithChange = true;
+
+					// A mutation is counted only once its result is validated
+					astRefactorer.metrics.increment(mutator, MutatorsMetrics.KEY_NB_MUTATIONS);
 				}
 			} else {
 				LOGGER.warn("{} generated invalid code over {}", mutator, path);
+				astRefactorer.metrics.increment(mutator, MutatorsMetrics.KEY_NB_INVALID_RESULTS);
 				appliedWithChange = false;
 			}
 
 			// Discard cache. It may be useful to prevent issues determining some types in
 			// mutated compilationUnits
 			optCompilationUnit.set(null);
+			astRefactorer.metrics.increment(mutator, MutatorsMetrics.KEY_NB_REPARSES);
 		} else {
 			appliedWithChange = false;
 		}
@@ -131,6 +137,122 @@ class AstRefactorerInstance<AST, P, R> {
 		return appliedWithChange;
 	}
 
+	/**
+	 * Walk the AST, without printing nor validating the result. If the mutator exceeds its budget, its mutations are
+	 * dropped: a mutated AST is discarded by resetting the reference to null, so that it is parsed again.
+	 * 
+	 * @param compilationUnit
+	 * @return the result of the walk, if the AST has been mutated.
+	 */
+	Optional<R> walkAst(AST compilationUnit) {
+		// Give up the whole file before walking, if the file budget is exceeded
+		TimeBudget.checkpoint();
+
+		var start = System.nanoTime();
+		try (var budget = TimeBudget.openStopping(String.valueOf(mutator), astRefactorer.getMutatorBudgetMs())) {
+			Optional<R> result = mutator.walkAst(compilationUnit);
+
+			if (budget.isExceeded()) {
+				LOGGER.warn("{} exceeded its budget of {}ms over path={}: its mutations are dropped",
+						mutator,
+						budget.getBudgetMs(),
+						path);
+				astRefactorer.metrics.increment(mutator, MutatorsMetrics.KEY_NB_OVER_BUDGET);
+
+				if (result.isPresent()) {
+					// The walk stopped early: the AST holds some of its mutations, while the file should be unchanged
+					refCompilationUnit.set(null);
+				}
+				return Optional.empty();
+			}
+
+			return result;
+		} catch (TimeBudgetExceededException e) {
+			// The file budget is exceeded: this is not an issue with the mutator
+			throw e;
+		} catch (RuntimeException | StackOverflowError e) {
+			// StackOverflowError may come from Javaparser
+			// e.g. https://github.com/javaparser/javaparser/issues/3940
+			if (mutator.toString().contains("UseExplicitTypes")) {
+				throw e;
+			} else {
+				throw new IllegalArgumentException("Issue with mutator: " + mutator, e);
+			}
+		} finally {
+			astRefactorer.metrics.increment(mutator, MutatorsMetrics.KEY_NB_WALKS);
+			astRefactorer.metrics.add(mutator, MutatorsMetrics.KEY_WALL_TIME_NANOS, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Walk the AST, without printing nor validating the result. The AST is made printable on its first mutation, if the
+	 * {@link AAstRefactorer} enables it. Else, if the AST is mutated while it is not printable, the source code is parsed
+	 * again into a printable AST, which is walked again. The same applies if the walk corrupted the AST (e.g. some changes
+	 * of a rejected mutation could not be reverted). If the corrupted AST held previous mutations, it is discarded by
+	 * resetting the reference to null.
+	 * 
+	 * @param sourceCode
+	 *            the source code from which the current AST has been parsed
+	 * @return the result of the walk, if the AST has been mutated.
+	 */
+	Optional<R> walkPrintableAst(String sourceCode) {
+		var event = new MutateEvent();
+		event.begin();
+		try {
+			return doWalkPrintableAst(sourceCode);
+		} finally {
+			event.endAndCommit(path,
+					astRefactorer.getEngine(),
+					astRefactorer.getId(),
+					mutator.getCleanthatId(),
+					sourceCode);
+		}
+	}
+
+	private Optional<R> doWalkPrintableAst(String sourceCode) {
+		var compilationUnit = refCompilationUnit.get();
+		// A printable AST may hold the mutations of previous mutators (e.g. a live AST), which are not in the source code
+		var wasPrintable = astRefactorer.isPrintable(compilationUnit);
+		if (!wasPrintable) {
+			astRefactorer.makePrintableOnFirstMutation(compilationUnit, sourceCode);
+		}
+		Optional<R> walkNodeResult = walkAst(compilationUnit);
+
+		if (astRefactorer.isCorrupted(compilationUnit) && wasPrintable) {
+			LOGGER.warn("IMutator {} corrupted the AST over path={}: the AST is discarded", mutator, path);
+			refCompilationUnit.set(null);
+			return Optional.empty();
+		} else if (astRefactorer.isCorrupted(compilationUnit)
+				|| walkNodeResult.isPresent() && !astRefactorer.isPrintable(compilationUnit)) {
+			LOGGER.debug("IMutator {} mutated a not printable AST: it is applied again over a printable AST", mutator);
+
+			Optional<AST> optPrintable;
+			try {
+				optPrintable = astRefactorer.recordParse(pathAndContent,
+						sourceCode,
+						verification,
+						() -> astRefactorer.parseSourceCode(parser, sourceCode));
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException("Issue parsing the code", e);
+			}
+			if (optPrintable.isEmpty()) {
+				throw new IllegalStateException("Not able to parse again some already parsed code");
+			}
+
+			refCompilationUnit.set(optPrintable.get());
+			astRefactorer.metrics.increment(mutator, MutatorsMetrics.KEY_NB_REPARSES);
+			walkNodeResult = walkAst(optPrintable.get());
+
+			if (astRefactorer.isCorrupted(optPrintable.get())) {
+				LOGGER.warn("IMutator {} corrupted the AST over path={}: its mutations are dropped", mutator, path);
+				refCompilationUnit.set(null);
+				return Optional.empty();
+			}
+		}
+
+		return walkNodeResult;
+	}
+
 	private void parseCompilationUnit(AtomicReference<AST> optCompilationUnit,
 			AtomicBoolean firstMutator,
 			AtomicBoolean inputIsBroken,
@@ -140,7 +262,10 @@ class AstRefactorerInstance<AST, P, R> {
 		if (optCompilationUnit.get() == null) {
 			try {
 				var sourceCode = refCleanCode;
-				var tryCompilationUnit = astRefactorer.parseSourceCode(parser, sourceCode);
+				var tryCompilationUnit = astRefactorer.recordParse(pathAndContent,
+						sourceCode,
+						verification,
+						() -> astRefactorer.parseSourceCodeToWalk(parser, sourceCode));
 				if (tryCompilationUnit.isEmpty()) {
 					// We are not able to parse the input
 					LOGGER.warn("Not able to parse path='{}' with {}", path, parser);
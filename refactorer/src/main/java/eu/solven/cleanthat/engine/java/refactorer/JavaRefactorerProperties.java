@@ -43,6 +43,8 @@ public class JavaRefactorerProperties implements ICleanthatStepParametersPropert
 	@Deprecated(since = "One should rather rely on a CompositeMutator")
 	public static final String WILDCARD = "*";
 
+	public static final int DEFAULT_VERIFICATION_SAMPLING = 100;
+
 	private String sourceJdk;
 
 	/**
@@ -61,6 +63,49 @@ public class JavaRefactorerProperties implements ICleanthatStepParametersPropert
 	@Deprecated
 	private boolean includeDraft = false;
 
+	/**
+	 * If true, the AST is walked once, and each node is offered to all mutators. It is faster, but mutations are
+	 * interleaved (while they are applied one mutator after the other by default).
+	 */
+	private boolean fusedWalk = false;
+
+	/**
+	 * If true, the AST is kept across mutators: it is printed and validated once, after the last mutator. If this
+	 * final validation fails, the mutators are re-applied one after the other, with a validation after each of them.
+	 */
+	private boolean liveAst = false;
+
+	/**
+	 * If true, the changes of a rejected mutation are reverted, so that the AST can be walked by following mutators
+	 * without being parsed again. If some change can not be reverted, the AST is discarded and parsed again.
+	 */
+	private boolean transactionalMutations = true;
+
+	/**
+	 * The output is generated by splicing the mutated regions into the original source code, each region being fixed
+	 * from the unexpected changes from Javaparser (e.g. removed empty lines). If true, the whole output is also diffed
+	 * once per file with the original source code, and this diff-based output is preferred if both outputs differ.
+	 */
+	private boolean verifySplicedOutput = false;
+
+	/**
+	 * The wall-clock budget, in milliseconds, of a single mutator over a single file. A mutator exceeding its budget
+	 * stops walking the AST, and its mutations are dropped: the file is left unchanged by this mutator. 0 means no
+	 * budget.
+	 */
+	private long mutatorBudgetMs = 0L;
+
+	/**
+	 * How much the mutations are verified (idempotency of each mutation, validity of the output). Lower levels are
+	 * faster, but may let a faulty mutator produce broken code.
+	 */
+	private VerificationLevel verification = VerificationLevel.PARANOID;
+
+	/**
+	 * With {@link VerificationLevel#SAMPLED}, 1 file out of `verificationSampling` is verified.
+	 */
+	private int verificationSampling = DEFAULT_VERIFICATION_SAMPLING;
+
 	@Override
 	public Object getCustomProperty(String key) {
 		if ("source_jdk".equalsIgnoreCase(key)) {
@@ -71,6 +116,20 @@ public class JavaRefactorerProperties implements ICleanthatStepParametersPropert
 			return excludedMutators;
 		} else if ("include_draft".equalsIgnoreCase(key)) {
 			return includeDraft;
+		} else if ("fused_walk".equalsIgnoreCase(key)) {
+			return fusedWalk;
+		} else if ("live_ast".equalsIgnoreCase(key)) {
+			return liveAst;
+		} else if ("transactional_mutations".equalsIgnoreCase(key)) {
+			return transactionalMutations;
+		} else if ("verify_spliced_output".equalsIgnoreCase(key)) {
+			return verifySplicedOutput;
+		} else if ("mutator_budget_ms".equalsIgnoreCase(key)) {
+			return mutatorBudgetMs;
+		} else if ("verification".equalsIgnoreCase(key)) {
+			return verification;
+		} else if ("verification_sampling".equalsIgnoreCase(key)) {
+			return verificationSampling;
 		}
 		return null;
 	}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.nio.file.Path;
+
+import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
+import lombok.Value;
+
+/**
+ * The first match of an {@link IMutator} over a file, as reported by
+ * {@link AAstRefactorer#detect(eu.solven.cleanthat.formatter.PathAndContent, boolean)}. Lines and columns are 1-based,
+ * and inclusive, like in SARIF regions. They are 0 if the location is unknown.
+ *
+ * @author Benoit Lacelle
+ */
+@Value
+public class MutatorFinding {
+	String mutatorId;
+	Path path;
+
+	int beginLine;
+	int beginColumn;
+	int endLine;
+	int endColumn;
+
+	public static MutatorFinding located(IMutator mutator,
+			Path path,
+			int beginLine,
+			int beginColumn,
+			int endLine,
+			int endColumn) {
+		return new MutatorFinding(MutatorsMetrics.getMutatorId(mutator),
+				path,
+				beginLine,
+				beginColumn,
+				endLine,
+				endColumn);
+	}
+
+	public static MutatorFinding unlocated(IMutator mutator, Path path) {
+		return located(mutator, path, 0, 0, 0, 0);
+	}
+
+	public boolean isLocated() {
+		return beginLine > 0;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.util.concurrent.AtomicLongMap;
+
+import eu.solven.cleanthat.engine.java.refactorer.meta.ICountMutatorVisits;
+import eu.solven.cleanthat.engine.java.refactorer.meta.ICountUnderlyingMetrics;
+import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.CompositeMutator;
+
+/**
+ * Counts, per {@link IMutator}, the time spent and the outcomes of its executions. This is thread-safe, as a single
+ * {@link AAstRefactorer} may process multiple files concurrently.
+ *
+ * @author Benoit Lacelle
+ */
+public class MutatorsMetrics {
+	public static final String KEY_NB_WALKS = "nb_walks";
+	public static final String KEY_WALL_TIME_NANOS = "wall_time_ns";
+	public static final String KEY_NB_MUTATIONS = "nb_mutations";
+	public static final String KEY_NB_REPARSES = "nb_reparses";
+	public static final String KEY_NB_INVALID_RESULTS = "nb_invalid_results";
+	public static final String KEY_NB_VISITED_NODES = "nb_visited_nodes";
+	public static final String KEY_NB_CANCELLATIONS = "nb_cancellations";
+	public static final String KEY_NB_OVER_BUDGET = "nb_over_budget";
+	public static final String KEY_NB_DETECTIONS = "nb_detections";
+
+	final ConcurrentMap<String, AtomicLongMap<String>> mutatorToCounters = new ConcurrentHashMap<>();
+
+	public void add(IMutator mutator, String key, long delta) {
+		mutatorToCounters.computeIfAbsent(getMutatorId(mutator), k -> AtomicLongMap.create()).addAndGet(key, delta);
+	}
+
+	static String getMutatorId(IMutator mutator) {
+		var cleanthatId = mutator.getCleanthatId();
+		if (cleanthatId == null) {
+			// Some mutators may not provide a cleanthatId
+			return mutator.getClass().getName();
+		}
+		return cleanthatId;
+	}
+
+	public void increment(IMutator mutator, String key) {
+		add(mutator, key, 1);
+	}
+
+	/**
+	 * 
+	 * @param mutators
+	 *            the mutators which counted their own visits (e.g. with {@link ICountMutatorVisits}), or the
+	 *            metrics of their underlying mutators (e.g. with {@link ICountUnderlyingMetrics}).
+	 * @return a snapshot of the counters, by mutator id.
+	 */
+	public Map<String, Map<String, Long>> snapshot(Iterable<? extends IMutator> mutators) {
+		Map<String, AtomicLongMap<String>> snapshot = new TreeMap<>();
+
+		mutatorToCounters.forEach((mutatorId, counters) -> {
+			snapshot.computeIfAbsent(mutatorId, k -> AtomicLongMap.create()).putAll(counters.asMap());
+		});
+
+		mutators.forEach(mutator -> addVisits(snapshot, mutator));
+
+		Map<String, Map<String, Long>> asMaps = new TreeMap<>();
+		snapshot.forEach((mutatorId, counters) -> asMaps.put(mutatorId, new TreeMap<>(counters.asMap())));
+		return asMaps;
+	}
+
+	private void addVisits(Map<String, AtomicLongMap<String>> snapshot, IMutator mutator) {
+		if (mutator instanceof CompositeMutator<?>) {
+			// e.g. the underlying mutators of a fused mutator count their own visits
+			((CompositeMutator<?>) mutator).getUnderlyings().forEach(underlying -> addVisits(snapshot, underlying));
+		}
+
+		if (mutator instanceof ICountUnderlyingMetrics) {
+			// e.g. the mutations and the time of a fused walk are attributed to the underlying mutator which applied
+			((ICountUnderlyingMetrics) mutator).getUnderlyingMetrics().forEach((underlying, underlyingCounters) -> {
+				var counters = snapshot.computeIfAbsent(getMutatorId(underlying), k -> AtomicLongMap.create());
+				underlyingCounters.forEach(counters::addAndGet);
+			});
+		}
+
+		if (mutator instanceof ICountMutatorVisits) {
+			var withVisits = (ICountMutatorVisits) mutator;
+			if (withVisits.getNbVisitedNodes() == 0 && withVisits.getNbCancellations() == 0) {
+				return;
+			}
+
+			var counters = snapshot.computeIfAbsent(getMutatorId(mutator), k -> AtomicLongMap.create());
+			counters.addAndGet(KEY_NB_VISITED_NODES, withVisits.getNbVisitedNodes());
+			counters.addAndGet(KEY_NB_CANCELLATIONS, withVisits.getNbCancellations());
+		}
+	}
+}
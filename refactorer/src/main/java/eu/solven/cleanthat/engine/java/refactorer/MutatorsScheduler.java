@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableList;
+
+import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
+
+/**
+ * Applies {@link IMutator}s until a fixpoint: each {@link IMutator} is applied once, and a successful {@link IMutator}
+ * re-schedules only the {@link IMutator}s it may newly enable (possibly itself).
+ *
+ * Pending {@link IMutator}s are always applied in the configured order.
+ *
+ * @author Benoit Lacelle
+ * @param <M>
+ *            the type of mutators
+ */
+public class MutatorsScheduler<M> {
+	private static final Logger LOGGER = LoggerFactory.getLogger(MutatorsScheduler.class);
+
+	// Prevent any infinite loop, e.g. due to a cycle of mutators undoing each other
+	public static final int MAX_APPLY = 10;
+
+	final List<M> mutators;
+	final Function<M, Collection<M>> enabledBy;
+
+	/**
+	 *
+	 * @param mutators
+	 *            all the mutators which may be applied, in the configured order
+	 * @param enabledBy
+	 *            the mutators which may trigger after a successful application of given mutator
+	 */
+	public MutatorsScheduler(List<M> mutators, Function<M, Collection<M>> enabledBy) {
+		this.mutators = ImmutableList.copyOf(mutators);
+		this.enabledBy = enabledBy;
+	}
+
+	/**
+	 *
+	 * @param initialMutators
+	 *            the mutators to apply at least once
+	 * @param applyOnce
+	 *            applies once given mutator, returning true if it changed the AST
+	 * @return the number of successful applications
+	 */
+	public int applyUntilFixpoint(Collection<M> initialMutators, Predicate<M> applyOnce) {
+		// Mutators are referred by their index, to follow the configured order
+		Map<M, Integer> indexes = new HashMap<>();
+		for (var i = 0; i < mutators.size(); i++) {
+			indexes.putIfAbsent(mutators.get(i), i);
+		}
+
+		var pending = new TreeSet<Integer>();
+		initialMutators.forEach(m -> pending.add(indexOf(indexes, m)));
+
+		var nbApplied = new int[mutators.size()];
+		var nbSuccess = 0;
+
+		while (!pending.isEmpty()) {
+			int index = pending.pollFirst();
+			var mutator = mutators.get(index);
+
+			if (nbApplied[index] >= MAX_APPLY) {
+				LOGGER.warn("{} has been applied {} times: it is not applied anymore", mutator, MAX_APPLY);
+				continue;
+			}
+			nbApplied[index]++;
+
+			if (applyOnce.test(mutator)) {
+				nbSuccess++;
+
+				Collection<M> enabled = enabledBy.apply(mutator);
+				LOGGER.debug("{} changed the AST: it enables {}", mutator, enabled);
+				enabled.forEach(m -> pending.add(indexOf(indexes, m)));
+			}
+		}
+
+		return nbSuccess;
+	}
+
+	private static <M> int indexOf(Map<M, Integer> indexes, M mutator) {
+		Integer index = indexes.get(mutator);
+		if (index == null) {
+			throw new IllegalArgumentException("Unknown mutator: " + mutator);
+		}
+		return index;
+	}
+
+	/**
+	 *
+	 * @param mutators
+	 * @param classesEnabledBy
+	 *            the classes of mutators enabled by a mutator of given class
+	 * @param mutatorClasses
+	 *            the classes of mutators composing given mutator (e.g. many for a composite mutator)
+	 * @return a {@link Function} giving the mutators enabled by a mutator
+	 */
+	public static <M> Function<M, Collection<M>> enabledByClasses(List<M> mutators,
+			Function<Class<?>, Set<Class<?>>> classesEnabledBy,
+			Function<M, Collection<Class<?>>> mutatorClasses) {
+		Map<M, Collection<M>> enabledBy = new HashMap<>();
+
+		mutators.forEach(mutator -> {
+			Set<Class<?>> enabledClasses = new TreeSet<>((l, r) -> l.getName().compareTo(r.getName()));
+			mutatorClasses.apply(mutator).forEach(c -> enabledClasses.addAll(classesEnabledBy.apply(c)));
+
+			List<M> enabled = mutators.stream()
+					.filter(other -> mutatorClasses.apply(other).stream().anyMatch(enabledClasses::contains))
+					.collect(ImmutableList.toImmutableList());
+			enabledBy.put(mutator, enabled);
+		});
+
+		return m -> enabledBy.getOrDefault(m, List.of());
+	}
+}
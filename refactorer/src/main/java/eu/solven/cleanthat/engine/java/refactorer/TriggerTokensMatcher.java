@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+
+import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
+
+/**
+ * Finds which tokens are present in a text, scanning the text only once (Aho-Corasick automaton). It is used to skip
+ * the {@link IMutator} which can not trigger on a given source, given their {@link IMutator#getTriggerTokens()}.
+ *
+ * @author Benoit Lacelle
+ */
+public final class TriggerTokensMatcher {
+	// The root state is 0
+	final List<Map<Character, Integer>> transitions = new ArrayList<>();
+	final List<Integer> failures = new ArrayList<>();
+	// The tokens matched when reaching given state, including through the failure links
+	final List<Set<String>> outputs = new ArrayList<>();
+
+	final Set<String> tokens;
+
+	public TriggerTokensMatcher(Collection<String> tokens) {
+		this.tokens = ImmutableSet.copyOf(tokens);
+
+		newState();
+		this.tokens.forEach(this::addToken);
+		computeFailures();
+	}
+
+	private int newState() {
+		transitions.add(new HashMap<>());
+		failures.add(0);
+		outputs.add(new HashSet<>());
+		return transitions.size() - 1;
+	}
+
+	private void addToken(String token) {
+		if (token.isEmpty()) {
+			throw new IllegalArgumentException("A trigger token can not be empty");
+		}
+
+		int state = 0;
+		for (var i = 0; i < token.length(); i++) {
+			char c = token.charAt(i);
+			Integer next = transitions.get(state).get(c);
+			if (next == null) {
+				next = newState();
+				transitions.get(state).put(c, next);
+			}
+			state = next;
+		}
+		outputs.get(state).add(token);
+	}
+
+	// Breadth-first, as the failure of a state is computed from the failure of its parent
+	private void computeFailures() {
+		var queue = new ArrayDeque<Integer>(transitions.get(0).values());
+
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+
+			transitions.get(state).forEach((c, next) -> {
+				queue.add(next);
+
+				int failure = failures.get(state);
+				while (failure != 0 && !transitions.get(failure).containsKey(c)) {
+					failure = failures.get(failure);
+				}
+				int nextFailure = transitions.get(failure).getOrDefault(c, 0);
+
+				failures.set(next, nextFailure);
+				outputs.get(next).addAll(outputs.get(nextFailure));
+			});
+		}
+	}
+
+	/**
+	 *
+	 * @param text
+	 * @return the tokens present in given text
+	 */
+	public Set<String> findPresent(CharSequence text) {
+		Set<String> present = new HashSet<>();
+
+		int state = 0;
+		for (var i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			while (state != 0 && !transitions.get(state).containsKey(c)) {
+				state = failures.get(state);
+			}
+			state = transitions.get(state).getOrDefault(c, 0);
+
+			present.addAll(outputs.get(state));
+			if (present.size() == tokens.size()) {
+				// All tokens are present: no need to scan the rest of the text
+				break;
+			}
+		}
+
+		return present;
+	}
+
+	/**
+	 *
+	 * @param mutator
+	 * @param presentTokens
+	 * @return true if given {@link IMutator} may trigger on a text holding given tokens
+	 */
+	public static boolean mayTrigger(IMutator mutator, Set<String> presentTokens) {
+		Set<String> triggerTokens = mutator.getTriggerTokens();
+		return triggerTokens.isEmpty() || triggerTokens.stream().anyMatch(presentTokens::contains);
+	}
+}
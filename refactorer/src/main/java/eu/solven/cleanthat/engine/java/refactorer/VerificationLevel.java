@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.nio.file.Path;
+
+/**
+ * How much the mutations are verified. The verifications prevent committing broken code, or code flip-flopping
+ * between 2 mutators, but they are expensive: this enables trading safety for throughput.
+ *
+ * @author Benoit Lacelle
+ */
+public enum VerificationLevel {
+	/**
+	 * No verification at all.
+	 */
+	OFF,
+
+	/**
+	 * 1 file out of N (given a deterministic hash of its path) is verified like with {@link #PARANOID}, while other
+	 * files are not verified.
+	 */
+	SAMPLED,
+
+	/**
+	 * The output of each file is validated once, after the last mutator. If it is invalid, the mutators are applied
+	 * again with {@link #PARANOID} verification, in order to find and skip the faulty mutator.
+	 */
+	FINAL_ONLY,
+
+	/**
+	 * Each mutation is checked for idempotency, and the output of each mutator is validated.
+	 */
+	PARANOID;
+
+	/**
+	 * 
+	 * @param path
+	 * @param sampling
+	 *            the N of {@link #SAMPLED}
+	 * @return the {@link VerificationLevel} to apply over given file. It is never {@link #SAMPLED}.
+	 */
+	public VerificationLevel forPath(Path path, int sampling) {
+		if (this != SAMPLED) {
+			return this;
+		} else if (sampling <= 1 || Math.floorMod(path.toString().hashCode(), sampling) == 0) {
+			// `String.hashCode` is deterministic, which makes the sampled files stable across runs
+			return PARANOID;
+		} else {
+			return OFF;
+		}
+	}
+
+	public boolean isCheckingIdempotency() {
+		return this == PARANOID;
+	}
+
+	public boolean isValidatingEachMutator() {
+		return this == PARANOID;
+	}
+
+	public boolean isValidatingResult() {
+		return this == PARANOID || this == FINAL_ONLY;
+	}
+}
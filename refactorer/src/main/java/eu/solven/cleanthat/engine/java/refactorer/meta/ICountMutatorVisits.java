@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer.meta;
+
+/**
+ * This interface enable fetching some performance metrics about the {@link IMutator}
+ * 
+ * @author Benoit Lacelle
+ *
+ */
+public interface ICountMutatorVisits {
+	/**
+	 * 
+	 * @return how many nodes has been offered to the mutator
+	 */
+	long getNbVisitedNodes();
+
+	/**
+	 * 
+	 * @return how many times the mutator skipped or cancelled a mutation (e.g. due to a comment, or to
+	 *         SuppressCleanthat)
+	 */
+	long getNbCancellations();
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer.meta;
+
+import java.util.Map;
+
+/**
+ * This interface enables a {@link IMutator} applying multiple underlying {@link IMutator}s in a single walk (e.g. a
+ * fused walk) to attribute its metrics to the underlying {@link IMutator} which actually applied.
+ * 
+ * @author Benoit Lacelle
+ *
+ */
+public interface ICountUnderlyingMetrics {
+	/**
+	 * 
+	 * @return the counters (e.g. `nb_mutations` or `wall_time_ns`) of each underlying {@link IMutator}
+	 */
+	Map<IMutator, Map<String, Long>> getUnderlyingMetrics();
+}
@@ -92,6 +92,17 @@ public interface IMutator extends IMutatorExternalReferences {
 		return IJdkVersionConstants.JDK_1;
 	}
 
+	/**
+	 * Enables skipping this {@link IMutator} without even parsing the source, if none of these tokens is present in
+	 * it. The tokens are searched as raw substrings (e.g. in comments too).
+	 * 
+	 * @return tokens, one of which has to be present in the source for this {@link IMutator} to trigger. If empty,
+	 *         this {@link IMutator} may trigger on any source.
+	 */
+	default Set<String> getTriggerTokens() {
+		return Set.of();
+	}
+
 	/**
 	 * Draft mutators are excluded by default from {@link CompositeMutator}. They may be included to check the
 	 * {@link IMutator} behavior on the author code, until being considered production-grade for all users.
@@ -77,6 +77,18 @@ public class CompositeMutator<T extends IMutator> implements IMutator {
 				.orElse(IJdkVersionConstants.JDK_1);
 	}
 
+	@Override
+	public Set<String> getTriggerTokens() {
+		if (mutators.isEmpty() || mutators.stream().anyMatch(mutator -> mutator.getTriggerTokens().isEmpty())) {
+			// At least one mutator may trigger on any source
+			return Set.of();
+		}
+
+		return mutators.stream()
+				.flatMap(mutator -> mutator.getTriggerTokens().stream())
+				.collect(Collectors.toCollection(TreeSet::new));
+	}
+
 	public List<T> getUnderlyings() {
 		return mutators;
 	}
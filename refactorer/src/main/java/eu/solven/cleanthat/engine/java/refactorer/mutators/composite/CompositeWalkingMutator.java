@@ -46,6 +46,17 @@ public class CompositeWalkingMutator<AST> extends CompositeMutator<IWalkingMutat
 
 	@Override
 	public Optional<AST> walkAst(AST pre) {
+		return walkAst(mutators, pre);
+	}
+
+	/**
+	 * 
+	 * @param mutators
+	 *            the mutators to apply, one after the other
+	 * @param pre
+	 * @return the mutated AST, if any of the mutators mutated it
+	 */
+	protected static <AST> Optional<AST> walkAst(List<? extends IWalkingMutator<AST, AST>> mutators, AST pre) {
 		Optional<AST> mutated = Optional.empty();
 
 		// Apply once every mutator, even if previous mutator is a no-op
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer.mutators.scanner;
+
+import java.util.Set;
+
+import org.codehaus.plexus.languages.java.version.JavaVersion;
+
+import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.CompositeMutator;
+import lombok.Value;
+
+/**
+ * Describes an {@link IMutator} without instantiating it: its ids, its minimal JDK, its tags and its draft flag.
+ *
+ * @author Benoit Lacelle
+ */
+@Value
+public class MutatorDescriptor {
+	Class<? extends IMutator> mutatorClass;
+	Set<String> ids;
+	String minimalJavaVersion;
+	Set<String> tags;
+	boolean draft;
+
+	public static MutatorDescriptor describe(IMutator mutator) {
+		return new MutatorDescriptor(mutator.getClass(),
+				mutator.getIds(),
+				mutator.minimalJavaVersion(),
+				mutator.getTags(),
+				mutator.isDraft());
+	}
+
+	public boolean isComposite() {
+		return CompositeMutator.class.isAssignableFrom(mutatorClass);
+	}
+
+	/**
+	 * A {@link CompositeMutator} is always compatible, as it is instantiated with the relevant {@link IMutator}s given
+	 * the source JDK.
+	 *
+	 * @param sourceJdkVersion
+	 * @return true if the described {@link IMutator} can be applied to given JDK
+	 */
+	public boolean isCompatible(JavaVersion sourceJdkVersion) {
+		return isComposite() || sourceJdkVersion.isAtLeast(minimalJavaVersion);
+	}
+
+	/**
+	 *
+	 * @param sourceJdkVersion
+	 * @return a new instance of the described {@link IMutator}, or null if it could not be instantiated
+	 */
+	public IMutator instantiate(JavaVersion sourceJdkVersion) {
+		return MutatorsScanner.instantiate(sourceJdkVersion, mutatorClass);
+	}
+}
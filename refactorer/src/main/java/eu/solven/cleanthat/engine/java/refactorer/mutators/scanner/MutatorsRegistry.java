@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer.mutators.scanner;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.codehaus.plexus.languages.java.version.JavaVersion;
+
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+
+import eu.solven.cleanthat.engine.java.IJdkVersionConstants;
+import eu.solven.cleanthat.engine.java.refactorer.meta.IMutator;
+import eu.solven.cleanthat.engine.java.refactorer.mutators.composite.AllIncludingDraftCompositeMutators;
+
+/**
+ * An immutable registry of the {@link IMutator}s listed by {@link MutatorsScanner}. It is computed once per
+ * {@link ClassLoader}, so that filtering the mutators to apply (e.g. for each file, as done by Spotless) does not
+ * instantiate all mutators.
+ *
+ * @author Benoit Lacelle
+ */
+public final class MutatorsRegistry {
+	private static final Supplier<MutatorsRegistry> INSTANCE = Suppliers.memoize(MutatorsRegistry::make);
+
+	// Sorted by className, to always apply mutators in the same order
+	final List<MutatorDescriptor> singles;
+	final List<MutatorDescriptor> composites;
+
+	// Indexed by id and by className. Single mutators are before composite mutators.
+	final ImmutableListMultimap<String, MutatorDescriptor> byIdOrClassName;
+
+	final Set<String> singleIds;
+	final Set<String> compositeIds;
+
+	private MutatorsRegistry(List<MutatorDescriptor> singles, List<MutatorDescriptor> composites) {
+		this.singles = ImmutableList.copyOf(singles);
+		this.composites = ImmutableList.copyOf(composites);
+
+		ImmutableListMultimap.Builder<String, MutatorDescriptor> builder = ImmutableListMultimap.builder();
+		ImmutableList.<MutatorDescriptor>builder().addAll(singles).addAll(composites).build().forEach(descriptor -> {
+			descriptor.getIds().forEach(id -> builder.put(id, descriptor));
+			builder.put(descriptor.getMutatorClass().getName(), descriptor);
+		});
+		this.byIdOrClassName = builder.build();
+
+		this.singleIds = toIds(singles);
+		this.compositeIds = toIds(composites);
+	}
+
+	private static Set<String> toIds(List<MutatorDescriptor> descriptors) {
+		return descriptors.stream()
+				.flatMap(d -> d.getIds().stream())
+				.sorted()
+				.collect(ImmutableSet.toImmutableSet());
+	}
+
+	public static MutatorsRegistry getInstance() {
+		return INSTANCE.get();
+	}
+
+	private static MutatorsRegistry make() {
+		var lastJdk = JavaVersion.parse(IJdkVersionConstants.LAST);
+
+		List<MutatorDescriptor> singles = describe(lastJdk, MutatorsScanner.scanSingleMutators());
+		List<MutatorDescriptor> composites = describe(lastJdk,
+				MutatorsScanner.scanCompositeMutators()
+						.stream()
+						// Consistent with AllIncludingDraftCompositeMutators, which excludes itself
+						.filter(c -> !AllIncludingDraftCompositeMutators.class.equals(c))
+						.collect(Collectors.toSet()));
+
+		return new MutatorsRegistry(singles, composites);
+	}
+
+	private static List<MutatorDescriptor> describe(JavaVersion lastJdk, Set<Class<? extends IMutator>> classes) {
+		return classes.stream()
+				.sorted(Comparator.comparing(Class::getName))
+				.map(c -> MutatorsScanner.instantiate(lastJdk, c))
+				.filter(Objects::nonNull)
+				.map(MutatorDescriptor::describe)
+				.collect(Collectors.toList());
+	}
+
+	public List<MutatorDescriptor> getSingles() {
+		return singles;
+	}
+
+	public List<MutatorDescriptor> getComposites() {
+		return composites;
+	}
+
+	/**
+	 *
+	 * @param idOrClassName
+	 * @return the {@link MutatorDescriptor}s having given id or className, the single mutators being first.
+	 */
+	public List<MutatorDescriptor> getByIdOrClassName(String idOrClassName) {
+		return byIdOrClassName.get(idOrClassName);
+	}
+
+	public Set<String> getSingleIds() {
+		return singleIds;
+	}
+
+	public Set<String> getCompositeIds() {
+		return compositeIds;
+	}
+
+	/**
+	 *
+	 * @param sourceJdkVersion
+	 * @param descriptors
+	 * @return new instances of the {@link MutatorDescriptor} compatible with given JDK
+	 */
+	public static List<IMutator> instantiateCompatible(JavaVersion sourceJdkVersion,
+			List<MutatorDescriptor> descriptors) {
+		return descriptors.stream()
+				.filter(d -> d.isCompatible(sourceJdkVersion))
+				.map(d -> d.instantiate(sourceJdkVersion))
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+	}
+}
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
@@ -29,6 +30,8 @@ import org.mockito.Mockito;
 
 import eu.solven.cleanthat.engine.java.refactorer.meta.IWalkingMutator;
 import eu.solven.cleanthat.formatter.PathAndContent;
+import eu.solven.cleanthat.formatter.TimeBudget;
+import eu.solven.cleanthat.formatter.TimeBudgetExceededException;
 
 public class TestAAstRefactorer {
 
@@ -47,6 +50,10 @@ public class TestAAstRefactorer {
 	final IWalkingMutator<String, String> otherValidMutator = Mockito.mock(IWalkingMutator.class);
 
 	final AtomicInteger nbFailedParsing = new AtomicInteger();
+	final AtomicInteger nbValidations = new AtomicInteger();
+
+	long mutatorBudgetMs = 0L;
+	VerificationLevel verification = VerificationLevel.PARANOID;
 
 	@Test
 	public void testRejectInvalidTransformedCode_validValid() throws IOException {
@@ -107,6 +114,261 @@ public class TestAAstRefactorer {
 		Assertions.assertThat(nbFailedParsing).hasValue(1);
 	}
 
+	@Test
+	public void testSkipMutatorWithoutTriggerToken() throws IOException {
+		List<IWalkingMutator<String, String>> mutators = Arrays.asList(someValidMutator, otherValidMutator);
+		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer = makeRefactorer(mutators);
+
+		Mockito.when(someValidMutator.getTriggerTokens()).thenReturn(Set.of("absentToken"));
+		Mockito.when(otherValidMutator.getTriggerTokens()).thenReturn(Set.of("Input", "otherAbsentToken"));
+		Mockito.when(otherValidMutator.walkAst(inputJavaCode)).thenReturn(Optional.of(otherResultAsString));
+
+		var outputCode = refactorer.applyTransformers(new PathAndContent(Paths.get("anything"), inputJavaCode));
+
+		Assertions.assertThat(outputCode).isEqualTo(otherResultAsString);
+		Mockito.verify(someValidMutator, Mockito.never()).walkAst(Mockito.anyString());
+	}
+
+	@Test
+	public void testTriggerTokenIntroducedByPreviousMutator() throws IOException {
+		List<IWalkingMutator<String, String>> mutators = Arrays.asList(someValidMutator, otherValidMutator);
+
+		Mockito.when(someValidMutator.walkAst(inputJavaCode)).thenReturn(Optional.of(someResultAsString));
+		Mockito.when(otherValidMutator.walkAst(someResultAsString)).thenReturn(Optional.of(otherResultAsString));
+
+		// Without any trigger token, all mutators are applied
+		var unfilteredOutput =
+				makeRefactorer(mutators).applyTransformers(new PathAndContent(Paths.get("anything"), inputJavaCode));
+
+		// `ResultAs` is present only once `someValidMutator` has been applied
+		Mockito.when(otherValidMutator.getTriggerTokens()).thenReturn(Set.of("ResultAs"));
+		var filteredOutput =
+				makeRefactorer(mutators).applyTransformers(new PathAndContent(Paths.get("anything"), inputJavaCode));
+
+		Assertions.assertThat(filteredOutput).isEqualTo(unfilteredOutput).isEqualTo(otherResultAsString);
+	}
+
+	@Test
+	public void testSkipParsingWithoutTriggerToken() throws IOException {
+		List<IWalkingMutator<String, String>> mutators = Arrays.asList(someValidMutator);
+		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer = makeRefactorer(mutators);
+
+		Mockito.when(someValidMutator.getTriggerTokens()).thenReturn(Set.of("absentToken"));
+
+		// This input can not be parsed: it demonstrates the parsing is skipped
+		var outputCode =
+				refactorer.applyTransformers(new PathAndContent(Paths.get("anything"), someInvalidResultAsString));
+
+		Assertions.assertThat(outputCode).isEqualTo(someInvalidResultAsString);
+		Assertions.assertThat(nbFailedParsing).hasValue(0);
+	}
+
+	@Test
+	public void testMetrics() throws IOException {
+		List<IWalkingMutator<String, String>> mutators =
+				Arrays.asList(someValidMutator, someInvalidMutator, otherValidMutator);
+		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer = makeRefactorer(mutators);
+
+		Mockito.when(someValidMutator.getCleanthatId()).thenReturn("someValid");
+		Mockito.when(someInvalidMutator.getCleanthatId()).thenReturn("someInvalid");
+		Mockito.when(otherValidMutator.getCleanthatId()).thenReturn("otherValid");
+
+		Mockito.when(someValidMutator.walkAst(inputJavaCode)).thenReturn(Optional.of(someResultAsString));
+		Mockito.when(someInvalidMutator.walkAst(someResultAsString)).thenReturn(Optional.of(someInvalidResultAsString));
+
+		refactorer.applyTransformers(new PathAndContent(Paths.get("anything"), inputJavaCode));
+
+		var metrics = refactorer.getMutatorsMetrics();
+		Assertions.assertThat(metrics).containsOnlyKeys("someValid", "someInvalid", "otherValid");
+
+		Assertions.assertThat(metrics.get("someValid"))
+				.containsEntry(MutatorsMetrics.KEY_NB_WALKS, 1L)
+				.containsEntry(MutatorsMetrics.KEY_NB_MUTATIONS, 1L)
+				.containsKey(MutatorsMetrics.KEY_WALL_TIME_NANOS)
+				.doesNotContainKey(MutatorsMetrics.KEY_NB_INVALID_RESULTS);
+		Assertions.assertThat(metrics.get("someInvalid"))
+				.containsEntry(MutatorsMetrics.KEY_NB_WALKS, 1L)
+				.doesNotContainKey(MutatorsMetrics.KEY_NB_MUTATIONS)
+				.containsEntry(MutatorsMetrics.KEY_NB_INVALID_RESULTS, 1L);
+		Assertions.assertThat(metrics.get("otherValid"))
+				.containsEntry(MutatorsMetrics.KEY_NB_WALKS, 1L)
+				.doesNotContainKey(MutatorsMetrics.KEY_NB_MUTATIONS);
+
+		Assertions.assertThat(refactorer.getMetrics()).containsEntry("someValid." + MutatorsMetrics.KEY_NB_WALKS, 1L);
+	}
+
+	@Test
+	public void testVerification_finalOnly() throws IOException {
+		verification = VerificationLevel.FINAL_ONLY;
+		List<IWalkingMutator<String, String>> mutators = Arrays.asList(someValidMutator, otherValidMutator);
+		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer = makeRefactorer(mutators);
+
+		Mockito.when(someValidMutator.walkAst(inputJavaCode)).thenReturn(Optional.of(someResultAsString));
+		Mockito.when(otherValidMutator.walkAst(someResultAsString)).thenReturn(Optional.of(otherResultAsString));
+
+		var outputCode = refactorer.applyTransformers(new PathAndContent(Paths.get("anything"), inputJavaCode));
+
+		Assertions.assertThat(outputCode).isEqualTo(otherResultAsString);
+		// The output is validated once
+		Assertions.assertThat(nbValidations).hasValue(1);
+		Assertions.assertThat(refactorer.getMetrics()).containsEntry("verification.FINAL_ONLY.FINAL_ONLY", 1L);
+	}
+
+	@Test
+	public void testVerification_finalOnly_invalid() throws IOException {
+		verification = VerificationLevel.FINAL_ONLY;
+		List<IWalkingMutator<String, String>> mutators =
+				Arrays.asList(someValidMutator, someInvalidMutator, otherValidMutator);
+		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer = makeRefactorer(mutators);
+
+		Mockito.when(someValidMutator.walkAst(inputJavaCode)).thenReturn(Optional.of(someResultAsString));
+		Mockito.when(someInvalidMutator.walkAst(someResultAsString)).thenReturn(Optional.of(someInvalidResultAsString));
+		Mockito.when(otherValidMutator.walkAst(someResultAsString)).thenReturn(Optional.of(otherResultAsString));
+
+		var outputCode = refactorer.applyTransformers(new PathAndContent(Paths.get("anything"), inputJavaCode));
+
+		// The invalid final output leads to applying again the mutators, with a validation after each of them
+		Assertions.assertThat(outputCode).isEqualTo(otherResultAsString);
+	}
+
+	@Test
+	public void testVerification_off() throws IOException {
+		verification = VerificationLevel.OFF;
+		List<IWalkingMutator<String, String>> mutators = Arrays.asList(someValidMutator, someInvalidMutator);
+		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer = makeRefactorer(mutators);
+
+		Mockito.when(someValidMutator.walkAst(inputJavaCode)).thenReturn(Optional.of(someResultAsString));
+		Mockito.when(someInvalidMutator.walkAst(someResultAsString)).thenReturn(Optional.of(someInvalidResultAsString));
+
+		var outputCode = refactorer.applyTransformers(new PathAndContent(Paths.get("anything"), inputJavaCode));
+
+		// Nothing prevents an invalid output
+		Assertions.assertThat(outputCode).isEqualTo(someInvalidResultAsString);
+		Assertions.assertThat(nbValidations).hasValue(0);
+	}
+
+	@Test
+	public void testVerification_sampled() {
+		Assertions.assertThat(VerificationLevel.SAMPLED.forPath(Paths.get("anything"), 1))
+				.isEqualTo(VerificationLevel.PARANOID);
+
+		var nbParanoid = IntStream.range(0, 1000)
+				.mapToObj(i -> Paths.get("src", "main", "java", "SomeClass" + i + ".java"))
+				.filter(path -> VerificationLevel.SAMPLED.forPath(path, 10) == VerificationLevel.PARANOID)
+				.count();
+		Assertions.assertThat(nbParanoid).isBetween(50L, 150L);
+
+		// The sampling is deterministic
+		var somePath = Paths.get("src", "main", "java", "SomeClass.java");
+		Assertions.assertThat(VerificationLevel.SAMPLED.forPath(somePath, 10))
+				.isEqualTo(VerificationLevel.SAMPLED.forPath(somePath, 10));
+		Assertions.assertThat(VerificationLevel.FINAL_ONLY.forPath(somePath, 10))
+				.isEqualTo(VerificationLevel.FINAL_ONLY);
+	}
+
+	@Test
+	public void testDetect() {
+		List<IWalkingMutator<String, String>> mutators =
+				Arrays.asList(someValidMutator, someInvalidMutator, otherValidMutator);
+		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer = makeRefactorer(mutators);
+
+		Mockito.when(someValidMutator.getCleanthatId()).thenReturn("someValid");
+		Mockito.when(otherValidMutator.getCleanthatId()).thenReturn("otherValid");
+
+		Mockito.when(someValidMutator.walkAst(inputJavaCode)).thenReturn(Optional.of(someResultAsString));
+		Mockito.when(otherValidMutator.walkAst(inputJavaCode)).thenReturn(Optional.of(otherResultAsString));
+
+		var path = Paths.get("anything");
+		var findings = refactorer.detect(new PathAndContent(path, inputJavaCode), false);
+
+		// Each mutator is detected over the original code
+		Assertions.assertThat(findings)
+				.containsExactly(MutatorFinding.unlocated(someValidMutator, path),
+						MutatorFinding.unlocated(otherValidMutator, path));
+		Assertions.assertThat(findings.get(0).getMutatorId()).isEqualTo("someValid");
+		Assertions.assertThat(findings.get(0).isLocated()).isFalse();
+
+		// Nothing is printed nor validated
+		Assertions.assertThat(nbValidations).hasValue(0);
+		Assertions.assertThat(refactorer.getMutatorsMetrics().get("someValid"))
+				.containsEntry(MutatorsMetrics.KEY_NB_DETECTIONS, 1L);
+	}
+
+	@Test
+	public void testDetect_firstPerFile() {
+		List<IWalkingMutator<String, String>> mutators = Arrays.asList(someValidMutator, otherValidMutator);
+		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer = makeRefactorer(mutators);
+
+		Mockito.when(someValidMutator.walkAst(inputJavaCode)).thenReturn(Optional.of(someResultAsString));
+
+		var findings = refactorer.detect(new PathAndContent(Paths.get("anything"), inputJavaCode), true);
+
+		Assertions.assertThat(findings).hasSize(1);
+		Mockito.verify(otherValidMutator, Mockito.never()).walkAst(Mockito.anyString());
+	}
+
+	@Test
+	public void testMutatorBudgetExceeded() throws IOException {
+		List<IWalkingMutator<String, String>> mutators = Arrays.asList(someValidMutator, otherValidMutator);
+		mutatorBudgetMs = 1L;
+		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer = makeRefactorer(mutators);
+
+		Mockito.when(someValidMutator.getCleanthatId()).thenReturn("someValid");
+		Mockito.when(someValidMutator.walkAst(inputJavaCode)).thenAnswer(invocation -> {
+			Thread.sleep(10);
+			return Optional.of(someResultAsString);
+		});
+		Mockito.when(otherValidMutator.walkAst(inputJavaCode)).thenReturn(Optional.of(otherResultAsString));
+
+		var outputCode = refactorer.applyTransformers(new PathAndContent(Paths.get("anything"), inputJavaCode));
+
+		// The mutations done before exceeding the budget are dropped, and the following mutators are applied
+		Assertions.assertThat(outputCode).isEqualTo(otherResultAsString);
+		Mockito.verify(otherValidMutator, Mockito.never()).walkAst(someResultAsString);
+		Assertions.assertThat(refactorer.getMutatorsMetrics().get("someValid"))
+				.containsEntry(MutatorsMetrics.KEY_NB_OVER_BUDGET, 1L)
+				.doesNotContainKey(MutatorsMetrics.KEY_NB_MUTATIONS);
+	}
+
+	@Test
+	public void testMutatorBudgetExceeded_leftUnchanged() throws IOException {
+		List<IWalkingMutator<String, String>> mutators = Arrays.asList(someValidMutator);
+		mutatorBudgetMs = 1L;
+		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer = makeRefactorer(mutators);
+
+		Mockito.when(someValidMutator.walkAst(inputJavaCode)).thenAnswer(invocation -> {
+			Thread.sleep(10);
+			return Optional.of(someResultAsString);
+		});
+
+		var outputCode = refactorer.applyTransformers(new PathAndContent(Paths.get("anything"), inputJavaCode));
+
+		Assertions.assertThat(outputCode).isEqualTo(inputJavaCode);
+	}
+
+	@Test
+	public void testFileBudgetExceeded() throws IOException {
+		List<IWalkingMutator<String, String>> mutators = Arrays.asList(someValidMutator, otherValidMutator);
+		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer = makeRefactorer(mutators);
+
+		Mockito.when(someValidMutator.walkAst(inputJavaCode)).thenAnswer(invocation -> {
+			Thread.sleep(10);
+			return Optional.of(someResultAsString);
+		});
+
+		try (var budget = TimeBudget.openInterrupting("anything", 1L)) {
+			Assertions
+					.assertThatThrownBy(() -> refactorer
+							.applyTransformers(new PathAndContent(Paths.get("anything"), inputJavaCode)))
+					.isInstanceOf(TimeBudgetExceededException.class);
+		}
+
+		Mockito.verify(otherValidMutator, Mockito.never()).walkAst(Mockito.anyString());
+
+		// The budget is not leaking to following files
+		Assertions.assertThat(TimeBudget.checkpoint()).isFalse();
+	}
+
 	private AAstRefactorer<String, String, String, IWalkingMutator<String, String>> makeRefactorer(
 			List<IWalkingMutator<String, String>> mutators) {
 		AAstRefactorer<String, String, String, IWalkingMutator<String, String>> refactorer =
@@ -122,6 +384,21 @@ public class TestAAstRefactorer {
 						return "mockito";
 					}
 
+					@Override
+					protected String getEngine() {
+						return "mockito";
+					}
+
+					@Override
+					protected long getMutatorBudgetMs() {
+						return mutatorBudgetMs;
+					}
+
+					@Override
+					protected VerificationLevel getVerificationLevel() {
+						return verification;
+					}
+
 					@Override
 					protected String makeAstParser() {
 						return someParser;
@@ -144,6 +421,7 @@ public class TestAAstRefactorer {
 
 					@Override
 					protected boolean isValidResultString(String parser, String resultAsString) {
+						nbValidations.incrementAndGet();
 						boolean isValid = Set.of(someResultAsString, otherResultAsString).contains(resultAsString);
 
 						if (!isValid) {
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class TestMutatorsScheduler {
+	@Test
+	public void testNoSuccess() {
+		var scheduler = new MutatorsScheduler<>(List.of("a", "b", "c"), m -> List.of("a", "b", "c"));
+
+		List<String> applied = new ArrayList<>();
+		int nbSuccess = scheduler.applyUntilFixpoint(List.of("c", "a"), m -> {
+			applied.add(m);
+			return false;
+		});
+
+		Assertions.assertThat(nbSuccess).isEqualTo(0);
+		// The configured order is followed, whatever the order of the initial mutators
+		Assertions.assertThat(applied).containsExactly("a", "c");
+	}
+
+	@Test
+	public void testSuccessEnablesOnlyDependents() {
+		Map<String, List<String>> enabledBy = Map.of("a", List.of(), "b", List.of("a"), "c", List.of());
+		var scheduler = new MutatorsScheduler<>(List.of("a", "b", "c"), enabledBy::get);
+
+		List<String> applied = new ArrayList<>();
+		int nbSuccess = scheduler.applyUntilFixpoint(List.of("a", "b", "c"), m -> {
+			applied.add(m);
+			// `b` succeeds only once
+			return "b".equals(m) && applied.indexOf("b") == applied.size() - 1;
+		});
+
+		Assertions.assertThat(nbSuccess).isEqualTo(1);
+		// `a` is re-applied after `b`, before `c` as pending mutators follow the configured order
+		Assertions.assertThat(applied).containsExactly("a", "b", "a", "c");
+	}
+
+	@Test
+	public void testCappedApplications() {
+		var scheduler = new MutatorsScheduler<>(List.of("a"), m -> List.of("a"));
+
+		int nbSuccess = scheduler.applyUntilFixpoint(List.of("a"), m -> true);
+
+		Assertions.assertThat(nbSuccess).isEqualTo(MutatorsScheduler.MAX_APPLY);
+	}
+
+	@Test
+	public void testEnabledByClasses() {
+		List<Object> mutators = List.of("someString", 123, 456L);
+
+		var enabledBy = MutatorsScheduler.<Object>enabledByClasses(mutators,
+				c -> c == String.class ? Set.of(Integer.class) : Set.of(),
+				m -> List.of(m.getClass()));
+
+		Assertions.assertThat(enabledBy.apply("someString")).containsExactly(123);
+		Assertions.assertThat(enabledBy.apply(123)).isEmpty();
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.engine.java.refactorer;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+
+public class TestTriggerTokensMatcher {
+	final TriggerTokensMatcher matcher =
+			new TriggerTokensMatcher(List.of("indexOf", "lastIndexOf", "isEmpty", "org.junit", "Of"));
+
+	@Test
+	public void testFindPresent() {
+		// The matching is case-sensitive: `lastIndexOf` does not hold `indexOf`
+		Assertions.assertThat(matcher.findPresent("return s.lastIndexOf('a') >= 0;"))
+				.containsExactlyInAnyOrder("lastIndexOf", "Of");
+		Assertions.assertThat(matcher.findPresent("return s.indexOf('a') >= s.lastIndexOf('b');"))
+				.containsExactlyInAnyOrder("indexOf", "lastIndexOf", "Of");
+
+		Assertions.assertThat(matcher.findPresent("import org.junit.Test;")).containsExactly("org.junit");
+	}
+
+	@Test
+	public void testFindPresent_overlapping() {
+		// `isEmpt` is a prefix of `isEmpty`: the automaton has to fallback to the root
+		Assertions.assertThat(matcher.findPresent("isEmptisEmpty")).containsExactly("isEmpty");
+	}
+
+	@Test
+	public void testFindPresent_none() {
+		Assertions.assertThat(matcher.findPresent("public class SomeClass {}")).isEmpty();
+		Assertions.assertThat(new TriggerTokensMatcher(List.of()).findPresent("anything")).isEmpty();
+	}
+}
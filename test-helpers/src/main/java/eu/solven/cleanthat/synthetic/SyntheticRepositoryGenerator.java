@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.synthetic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates a synthetic repository on the local disk, given a {@link SyntheticRepositoryProperties}. The generation is
+ * deterministic given the seed, which enables comparing scaling benchmarks over different revisions of Cleanthat.
+ *
+ * @author Benoit Lacelle
+ *
+ */
+public class SyntheticRepositoryGenerator {
+	private static final Logger LOGGER = LoggerFactory.getLogger(SyntheticRepositoryGenerator.class);
+
+	private static final String IGNORED_PREFIX = "ignored_";
+
+	private static final Path SRC_MAIN_JAVA = Path.of("src", "main", "java");
+	private static final Path SRC_MAIN_RESOURCES = Path.of("src", "main", "resources");
+
+	// Trailing whitespaces are cleaned by most formatters, and keep the content valid in any of the generated formats
+	static final String DIRTY_EOL = "   \n";
+
+	final SyntheticRepositoryProperties properties;
+	final Random random;
+
+	// Cumulated weights, to pick an extension given the mix
+	final TreeMap<Integer, String> cumulatedWeightToExtension = new TreeMap<>();
+	final int totalWeight;
+
+	public SyntheticRepositoryGenerator(SyntheticRepositoryProperties properties) {
+		this.properties = properties;
+		this.random = new Random(properties.getSeed());
+
+		var cumulated = 0;
+		// Sorted for determinism
+		for (Map.Entry<String, Integer> e : new TreeMap<>(properties.getExtensionToWeight()).entrySet()) {
+			if (e.getValue() <= 0) {
+				continue;
+			}
+			cumulated += e.getValue();
+			cumulatedWeightToExtension.put(cumulated, e.getKey());
+		}
+		if (cumulated <= 0) {
+			throw new IllegalArgumentException("At least one extension needs a strictly positive weight");
+		}
+		this.totalWeight = cumulated;
+	}
+
+	/**
+	 *
+	 * @param root
+	 *            an empty or not existing directory
+	 * @return the relative paths of the generated files, excluding `.gitignore` files
+	 * @throws IOException
+	 */
+	public List<Path> generate(Path root) throws IOException {
+		Files.createDirectories(root);
+		writeGitignore(root, 0);
+
+		Set<Path> withGitignore = new HashSet<>();
+		List<Path> generated = new ArrayList<>(properties.getNbFiles());
+		for (var fileIndex = 0; fileIndex < properties.getNbFiles(); fileIndex++) {
+			var extension = pickExtension();
+			var dirty = random.nextDouble() < properties.getDirtyRatio();
+			var ignored = random.nextDouble() < properties.getIgnoredRatio();
+
+			var languageRoot = "java".equals(extension) ? SRC_MAIN_JAVA : SRC_MAIN_RESOURCES;
+			var segments = makeSegments(fileIndex / properties.getFilesPerDirectory());
+
+			var directory = languageRoot;
+			for (var depth = 1; depth <= segments.size(); depth++) {
+				directory = directory.resolve(segments.get(depth - 1));
+
+				if (depth <= properties.getGitignoreDepth() && withGitignore.add(directory)) {
+					writeGitignore(root.resolve(directory), depth);
+				}
+			}
+
+			if (ignored) {
+				// Pick one of the `.gitignore` applying to this directory
+				var depth = random.nextInt(Math.min(properties.getGitignoreDepth(), segments.size()) + 1);
+				directory = directory.resolve(IGNORED_PREFIX + depth);
+			}
+
+			var className = "Synthetic" + fileIndex;
+			var relativePath = directory.resolve(className + "." + extension);
+			var packageName = languageRoot.relativize(directory).toString().replace(File.separatorChar, '.');
+			var content = makeContent(packageName, className, extension, pickSize(), dirty);
+
+			var absolutePath = root.resolve(relativePath);
+			Files.createDirectories(absolutePath.getParent());
+			Files.writeString(absolutePath, content, StandardCharsets.UTF_8);
+
+			generated.add(relativePath);
+		}
+
+		LOGGER.info("Generated {} files in {}", generated.size(), root);
+		return generated;
+	}
+
+	/**
+	 *
+	 * @param root
+	 * @return a {@link Git} repository with a single commit holding the generated files
+	 * @throws IOException
+	 */
+	public Git generateGitRepository(Path root) throws IOException {
+		generate(root);
+
+		try {
+			var git = Git.init().setDirectory(root.toFile()).call();
+			git.add().addFilepattern(".").call();
+			git.commit()
+					.setMessage("Synthetic repository")
+					.setAuthor("cleanthat", "cleanthat@solven.eu")
+					.setCommitter("cleanthat", "cleanthat@solven.eu")
+					.setSign(false)
+					.call();
+
+			LOGGER.info("Committed the synthetic repository in {}", root);
+			return git;
+		} catch (GitAPIException e) {
+			throw new IllegalStateException("Issue initializing a git repository in " + root, e);
+		}
+	}
+
+	/**
+	 * A `.gitignore` at given depth ignores the directories named `ignored_<depth>`, in any of its sub-directories.
+	 */
+	protected void writeGitignore(Path directory, int depth) throws IOException {
+		Files.createDirectories(directory);
+		Files.writeString(directory.resolve(".gitignore"),
+				IGNORED_PREFIX + depth + "/\n*.tmp\n",
+				StandardCharsets.UTF_8);
+	}
+
+	protected String pickExtension() {
+		return cumulatedWeightToExtension.higherEntry(random.nextInt(totalWeight)).getValue();
+	}
+
+	protected int pickSize() {
+		var logNormal = Math.exp(properties.getFileSizeSigma() * random.nextGaussian());
+		return (int) Math.max(1, properties.getMedianFileSize() * logNormal);
+	}
+
+	/**
+	 * The digits of the index, in base `directoriesPerDirectory`, give a balanced tree of directories.
+	 */
+	protected List<String> makeSegments(int directoryIndex) {
+		var base = properties.getDirectoriesPerDirectory();
+
+		List<String> segments = new ArrayList<>();
+		var remaining = directoryIndex;
+		do {
+			segments.add("d" + remaining % base);
+			remaining /= base;
+		} while (remaining > 0);
+
+		return segments;
+	}
+
+	@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+	protected String makeContent(String packageName, String className, String extension, int size, boolean dirty) {
+		var sb = new StringBuilder(size + 256);
+
+		switch (extension) {
+		case "java": {
+			sb.append("package ").append(packageName).append(";\n\n");
+			sb.append("public class ").append(className).append(" {\n");
+			if (dirty) {
+				// Cleaned by `UseIndexOfChar` and `UseStringIsEmpty`
+				sb.append("\tpublic boolean dirty(String s) {\n");
+				sb.append("\t\treturn s.indexOf(\"a\") >= 0 && s.length() == 0;\n");
+				sb.append("\t}\n");
+			}
+			for (var i = 0; sb.length() < size; i++) {
+				sb.append("\n\tpublic int method").append(i).append("(String s) {\n");
+				sb.append("\t\treturn s.length() + ").append(i).append(";\n");
+				sb.append("\t}\n");
+			}
+			sb.append("}\n");
+			break;
+		}
+		case "json": {
+			sb.append("{\n");
+			for (var i = 0; sb.length() < size; i++) {
+				sb.append("  \"key").append(i).append("\" : ").append(i).append(",\n");
+			}
+			sb.append("  \"dirty\" : ").append(dirty);
+			if (dirty) {
+				// Whitespaces are valid between JSON tokens
+				sb.append(DIRTY_EOL);
+			} else {
+				sb.append('\n');
+			}
+			sb.append("}\n");
+			break;
+		}
+		case "yaml": {
+			for (var i = 0; sb.length() < size; i++) {
+				sb.append("key").append(i).append(": ").append(i).append('\n');
+			}
+			if (dirty) {
+				// A plain line would not be valid YAML: the trailing whitespaces are appended to a key-value line
+				sb.append("dirty: true").append(DIRTY_EOL);
+			}
+			break;
+		}
+		case "md": {
+			sb.append("# ").append(className).append("\n\n");
+			for (var i = 0; sb.length() < size; i++) {
+				sb.append("Paragraph ").append(i).append(" of some synthetic documentation.\n\n");
+			}
+			if (dirty) {
+				sb.append("Dirty paragraph.").append(DIRTY_EOL);
+			}
+			break;
+		}
+		default: {
+			for (var i = 0; sb.length() < size; i++) {
+				sb.append("line ").append(i).append('\n');
+			}
+			if (dirty) {
+				sb.append("dirty line").append(DIRTY_EOL);
+			}
+			break;
+		}
+		}
+
+		return sb.toString();
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.synthetic;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The shape of a repository generated by {@link SyntheticRepositoryGenerator}.
+ *
+ * @author Benoit Lacelle
+ *
+ */
+@Value
+@Builder
+public class SyntheticRepositoryProperties {
+	@Builder.Default
+	int nbFiles = 10_000;
+
+	/**
+	 * The weight of each file extension. Known extensions (java, json, yaml, md) receive a relevant content, others
+	 * receive plain lines.
+	 */
+	@Builder.Default
+	Map<String, Integer> extensionToWeight = Map.of("java", 70, "json", 10, "yaml", 10, "md", 10);
+
+	/**
+	 * The sizes follow a log-normal distribution, which is a good fit for source files: most files are small, while a
+	 * few are very large.
+	 */
+	@Builder.Default
+	int medianFileSize = 4 * 1024;
+
+	@Builder.Default
+	double fileSizeSigma = 1D;
+
+	@Builder.Default
+	int filesPerDirectory = 50;
+
+	@Builder.Default
+	int directoriesPerDirectory = 10;
+
+	/**
+	 * The number of directory levels holding a `.gitignore`. 0 means a single `.gitignore` at the root.
+	 */
+	@Builder.Default
+	int gitignoreDepth = 2;
+
+	/**
+	 * The ratio of files written in a git-ignored directory.
+	 */
+	@Builder.Default
+	double ignoredRatio = 0.05D;
+
+	/**
+	 * The ratio of files holding some code which is expected to be cleaned.
+	 */
+	@Builder.Default
+	double dirtyRatio = 0.1D;
+
+	@Builder.Default
+	long seed = 0L;
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Benoit Lacelle - SOLVEN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.solven.cleanthat.synthetic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.Test;
+
+public class TestSyntheticRepositoryGenerator {
+	final SyntheticRepositoryProperties properties = SyntheticRepositoryProperties.builder()
+			.nbFiles(2000)
+			.medianFileSize(128)
+			.filesPerDirectory(20)
+			.dirtyRatio(0.3D)
+			.ignoredRatio(0.2D)
+			.seed(123L)
+			.build();
+
+	@Test
+	public void testDeterministicGivenSeed() throws IOException {
+		var root = Files.createTempDirectory("cleanthat-TestSyntheticRepositoryGenerator-");
+		var otherRoot = Files.createTempDirectory("cleanthat-TestSyntheticRepositoryGenerator-");
+
+		var paths = new SyntheticRepositoryGenerator(properties).generate(root);
+		var otherPaths = new SyntheticRepositoryGenerator(properties).generate(otherRoot);
+
+		Assertions.assertThat(otherPaths).hasSize(properties.getNbFiles()).isEqualTo(paths);
+		for (var path : paths) {
+			Assertions.assertThat(otherRoot.resolve(path)).hasSameTextualContentAs(root.resolve(path));
+		}
+	}
+
+	@Test
+	public void testRatios() throws IOException {
+		var root = Files.createTempDirectory("cleanthat-TestSyntheticRepositoryGenerator-");
+
+		var paths = new SyntheticRepositoryGenerator(properties).generate(root);
+
+		var nbIgnored = 0;
+		var nbDirty = 0;
+		for (var path : paths) {
+			if (path.toString().contains("ignored_")) {
+				nbIgnored++;
+			}
+
+			var content = Files.readString(root.resolve(path));
+			if (content.contains("indexOf(\"a\")") || content.contains(SyntheticRepositoryGenerator.DIRTY_EOL)) {
+				nbDirty++;
+			}
+		}
+
+		Assertions.assertThat(1D * nbIgnored / paths.size()).isCloseTo(0.2D, Offset.offset(0.05D));
+		Assertions.assertThat(1D * nbDirty / paths.size()).isCloseTo(0.3D, Offset.offset(0.05D));
+	}
+
+	@Test
+	public void testDirtyContentIsValid() {
+		var generator = new SyntheticRepositoryGenerator(
+				SyntheticRepositoryProperties.builder().extensionToWeight(Map.of("json", 1)).build());
+
+		var json = generator.makeContent("some.pkg", "SomeClass", "json", 64, true);
+		Assertions.assertThat(json).startsWith("{\n").endsWith("  \"dirty\" : true   \n}\n");
+
+		var yaml = generator.makeContent("some.pkg", "SomeClass", "yaml", 64, true);
+		Assertions.assertThat(yaml.split("\n")).allSatisfy(line -> Assertions.assertThat(line).contains(": "));
+		Assertions.assertThat(yaml).endsWith("dirty: true   \n");
+	}
+}